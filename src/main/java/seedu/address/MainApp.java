@@ -1,30 +1,44 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.jfr.FlightRecording;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
+import seedu.address.logic.LiveSearch;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.stats.CommandStatistics;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -39,58 +53,111 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 2, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String STATISTICS_MBEAN_NAME = "seedu.address:type=CommandStatistics";
+    private static final long STATISTICS_LOG_INTERVAL_MINUTES = 5;
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    protected ScheduledExecutorService statisticsLogger;
+    protected LiveSearch liveSearch;
+
+    private long startupStartTime;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        startupStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        if (appParameters.getFlightRecordingPath() != null) {
+            FlightRecording.startContinuous(appParameters.getFlightRecordingPath());
+        }
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = config.isBinaryAddressBookEnabled()
+                ? new BinaryAddressBookStorage(
+                        BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()),
+                        userPrefs.getAddressBookFilePath())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
+        logStartupPhase("Reading config and preferences", startupStartTime);
 
-        model = initModelManager(storage, userPrefs);
+        model = new ModelManager(new AddressBook(), userPrefs);
+        AddressBookLoader addressBookLoader = initAddressBookLoad(model, storage);
 
-        logic = new LogicManager(model, storage);
+        CommandStatistics statistics = new CommandStatistics();
+        LogicManager logicManager = new LogicManager(model, storage, statistics);
+        logicManager.setInitialLoad(addressBookLoader);
+        liveSearch = new LiveSearch(model, Platform::runLater, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        logicManager.setLiveSearch(liveSearch);
+        logic = logicManager;
+        initStatisticsReporting(statistics);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Starts loading the initial address book from {@code storage} into {@code model} on a background thread, so
+     * that persons are displayed as soon as they are read, while the UI is still being set up.
+     */
+    private AddressBookLoader initAddressBookLoad(Model model, Storage storage) {
+        ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "addressbook-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AddressBookLoader loader = new AddressBookLoader(model, Platform::runLater);
+        loader.start(storage, reader);
+        reader.shutdown();
+        return loader;
+    }
+
+    /**
+     * Logs how long a startup phase that began at {@code phaseStartTime} took.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+    private void logStartupPhase(String phase, long phaseStartTime) {
+        long now = System.nanoTime();
+        logger.info(String.format("Startup: %s took %d ms (%d ms since start)", phase,
+                TimeUnit.NANOSECONDS.toMillis(now - phaseStartTime),
+                TimeUnit.NANOSECONDS.toMillis(now - startupStartTime)));
+    }
+
+    /**
+     * Exposes {@code statistics} as a JMX MBean and logs a summary of it periodically.
+     */
+    private void initStatisticsReporting(CommandStatistics statistics) {
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics,
+                    new ObjectName(STATISTICS_MBEAN_NAME));
+        } catch (JMException e) {
+            logger.warning("Failed to register command statistics MBean : " + StringUtil.getDetails(e));
         }
 
-        return new ModelManager(initialData, userPrefs);
+        statisticsLogger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "statistics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong lastLoggedCount = new AtomicLong();
+        statisticsLogger.scheduleAtFixedRate(() -> {
+            long commandCount = statistics.getCommandCount();
+            if (lastLoggedCount.getAndSet(commandCount) != commandCount) {
+                logger.info("Command statistics: " + statistics.getSummary());
+            }
+        }, STATISTICS_LOG_INTERVAL_MINUTES, STATISTICS_LOG_INTERVAL_MINUTES, TimeUnit.MINUTES);
     }
 
     private void initLogging(Config config) {
@@ -126,7 +193,9 @@ public class MainApp extends Application {
 
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            if (!JsonUtil.isJsonFileUpToDate(initializedConfig, configFilePathUsed)) {
+                ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
@@ -157,7 +226,9 @@ public class MainApp extends Application {
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            if (!JsonUtil.isJsonFileUpToDate(initializedPrefs, prefsFilePath)) {
+                storage.saveUserPrefs(initializedPrefs);
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
@@ -168,16 +239,45 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        long uiStartTime = System.nanoTime();
         ui.start(primaryStage);
+        logStartupPhase("Showing the main window", uiStartTime);
+        initApiServer(config);
+    }
+
+    /**
+     * Starts the HTTP API server if it is enabled in {@code config}.
+     * Commands received by the server are executed on the JavaFX application thread, like those from the GUI.
+     */
+    private void initApiServer(Config config) {
+        if (config.getApiServerPort() == 0) {
+            return;
+        }
+
+        apiServer = new ApiServer(logic, Platform::runLater, config.getApiServerPort(),
+                config.getApiServerThreads());
+        try {
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning("Failed to start API server : " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        statisticsLogger.shutdownNow();
+        liveSearch.shutdown();
+        logger.info("Command statistics: " + logic.getCommandStatistics().getSummary());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
     }
 }
@@ -0,0 +1,354 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PersonPage;
+import seedu.address.model.exceptions.PageTokenNotFoundException;
+import seedu.address.model.person.Person;
+
+/**
+ * An HTTP server, bound to the loopback interface, that exposes {@link Logic} as JSON endpoints:
+ * <ul>
+ *     <li>{@code POST /api/commands} with body {@code {"command": "..."}} executes a command.</li>
+ *     <li>{@code GET /api/persons?offset=0&limit=50} returns a page of the filtered person list.</li>
+ *     <li>{@code GET /api/persons/pages?limit=50&pageToken=TOKEN} returns a page of a snapshot of the filtered
+ *     person list, with the {@code nextPageToken} to pass for the page after it. The first page is asked for without
+ *     a token.</li>
+ *     <li>{@code GET /api/persons/INDEX} returns the person at the one-based {@code INDEX} of the filtered list.</li>
+ * </ul>
+ *
+ * Requests are accepted on a pool of worker threads, which also do the JSON encoding and decoding, so reads are
+ * served concurrently. Only the accesses to {@code Logic} itself are handed to the {@code logicExecutor}, which must
+ * be the thread that owns the model (the JavaFX application thread when the GUI is running). Persistent connections,
+ * including pipelined requests on them, are handled by the underlying JDK server.
+ */
+public class ApiServer {
+
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String PERSON_PAGES_PATH = PERSONS_PATH + "/pages";
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed: %1$s";
+    public static final String MESSAGE_NOT_FOUND = "No such resource: %1$s";
+    public static final String MESSAGE_INVALID_BODY = "Request body must be a JSON object with a \"command\" field";
+    public static final String MESSAGE_INVALID_PAGE = "offset must be >= 0 and limit must be between 1 and "
+            + MAX_PAGE_SIZE;
+    public static final String MESSAGE_INVALID_PAGE_TOKEN = "Page token is invalid or has expired: %1$s";
+    public static final String MESSAGE_INVALID_INDEX = "No person at index %1$s";
+    public static final String MESSAGE_INTERNAL_ERROR = "Internal error: %1$s";
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor logicExecutor;
+    private final int port;
+    private final int workerThreads;
+
+    private HttpServer server;
+    private ExecutorService workers;
+
+    /**
+     * Creates an {@code ApiServer} over {@code logic}.
+     *
+     * @param logicExecutor runs every access to {@code logic}, one at a time.
+     * @param port localhost port to listen on, or 0 to pick a free port.
+     * @param workerThreads number of threads that handle requests.
+     */
+    public ApiServer(Logic logic, Executor logicExecutor, int port, int workerThreads) {
+        requireNonNull(logic);
+        requireNonNull(logicExecutor);
+        if (port < 0 || workerThreads < 1) {
+            throw new IllegalArgumentException("Invalid port or worker thread count");
+        }
+        this.logic = logic;
+        this.logicExecutor = logicExecutor;
+        this.port = port;
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Starts listening for requests.
+     * @throws IOException if the port cannot be bound.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        workers = Executors.newFixedThreadPool(workerThreads);
+        server.setExecutor(workers);
+        server.createContext(COMMANDS_PATH, this::handleCommands);
+        server.createContext(PERSONS_PATH, this::handlePersons);
+        server.start();
+        logger.info("API server listening on http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops the server, waiting briefly for in-flight requests to complete.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(1);
+        workers.shutdown();
+        server = null;
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server == null ? port : server.getAddress().getPort();
+    }
+
+    private void handleCommands(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+                sendError(exchange, HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI()));
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendError(exchange, HTTP_METHOD_NOT_ALLOWED,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod()));
+                return;
+            }
+
+            String command;
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                command = JsonUtil.fromJsonString(body, JsonApiCommandRequest.class).getCommand();
+            } catch (IOException e) {
+                command = null;
+            }
+            if (command == null) {
+                sendError(exchange, HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+                return;
+            }
+
+            final String commandText = command;
+            try {
+                CommandResult result = callOnLogicThread(() -> logic.execute(commandText));
+                sendJson(exchange, HTTP_OK, new JsonApiCommandResult(result));
+            } catch (CommandException | ParseException e) {
+                sendError(exchange, HTTP_BAD_REQUEST, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            sendInternalError(exchange, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, HTTP_METHOD_NOT_ALLOWED,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod()));
+                return;
+            }
+
+            URI uri = exchange.getRequestURI();
+            String path = uri.getPath();
+            if (path.equals(PERSONS_PATH) || path.equals(PERSONS_PATH + "/")) {
+                handlePersonPage(exchange, parseQuery(uri.getRawQuery()));
+            } else if (path.equals(PERSON_PAGES_PATH)) {
+                handlePersonSnapshotPage(exchange, parseQuery(uri.getRawQuery()));
+            } else if (path.startsWith(PERSONS_PATH + "/")) {
+                handlePersonLookup(exchange, path.substring(PERSONS_PATH.length() + 1));
+            } else {
+                sendError(exchange, HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, uri));
+            }
+        } catch (CommandException | ParseException | RuntimeException e) {
+            // reading the person list does not execute any command, so any exception is unexpected
+            sendInternalError(exchange, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePersonPage(HttpExchange exchange, Map<String, String> query)
+            throws IOException, CommandException, ParseException {
+        int offset;
+        int limit;
+        try {
+            offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+            limit = Integer.parseInt(query.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_SIZE)));
+        } catch (NumberFormatException e) {
+            offset = -1;
+            limit = -1;
+        }
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            sendError(exchange, HTTP_BAD_REQUEST, MESSAGE_INVALID_PAGE);
+            return;
+        }
+
+        final int pageOffset = offset;
+        final int pageLimit = limit;
+        JsonApiPersonPage page = callOnLogicThread(() -> {
+            List<Person> persons = logic.getFilteredPersonList();
+            int from = Math.min(pageOffset, persons.size());
+            int to = Math.min(from + pageLimit, persons.size());
+            return new JsonApiPersonPage(new ArrayList<>(persons.subList(from, to)), from, persons.size());
+        });
+        sendJson(exchange, HTTP_OK, page);
+    }
+
+    private void handlePersonSnapshotPage(HttpExchange exchange, Map<String, String> query)
+            throws IOException, CommandException, ParseException {
+        int limit;
+        try {
+            limit = Integer.parseInt(query.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_SIZE)));
+        } catch (NumberFormatException e) {
+            limit = -1;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            sendError(exchange, HTTP_BAD_REQUEST, MESSAGE_INVALID_PAGE);
+            return;
+        }
+
+        final int pageLimit = limit;
+        String pageToken = query.get("pageToken");
+        PersonPage page;
+        try {
+            // later pages come from the snapshot, so they are read without waiting for the logic thread
+            page = pageToken == null
+                    ? callOnLogicThread(() -> logic.getFirstPersonPage(pageLimit))
+                    : logic.getPersonPage(pageToken, pageLimit);
+        } catch (PageTokenNotFoundException e) {
+            sendError(exchange, HTTP_BAD_REQUEST, String.format(MESSAGE_INVALID_PAGE_TOKEN, pageToken));
+            return;
+        }
+        sendJson(exchange, HTTP_OK, new JsonApiPersonPage(page));
+    }
+
+    private void handlePersonLookup(HttpExchange exchange, String oneBasedIndex)
+            throws IOException, CommandException, ParseException {
+        int index = StringUtil.isNonZeroUnsignedInteger(oneBasedIndex) ? Integer.parseInt(oneBasedIndex) : -1;
+        JsonApiPerson person = index == -1 ? null : callOnLogicThread(() -> {
+            List<Person> persons = logic.getFilteredPersonList();
+            return index <= persons.size() ? new JsonApiPerson(persons.get(index - 1), index) : null;
+        });
+        if (person == null) {
+            sendError(exchange, HTTP_NOT_FOUND, String.format(MESSAGE_INVALID_INDEX, oneBasedIndex));
+            return;
+        }
+        sendJson(exchange, HTTP_OK, person);
+    }
+
+    /**
+     * Runs {@code task} on the {@code logicExecutor} and waits for its result.
+     */
+    private <T> T callOnLogicThread(LogicTask<T> task) throws CommandException, ParseException {
+        FutureTask<T> future = new FutureTask<>(task::call);
+        logicExecutor.execute(future);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the logic thread", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Parses a raw query string such as {@code offset=0&limit=10}. Parameters without a value are ignored.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Logs {@code e} and responds with an internal error, unless a response has already been started.
+     */
+    private static void sendInternalError(HttpExchange exchange, Exception e) throws IOException {
+        logger.warning("Unexpected error while handling API request: " + StringUtil.getDetails(e));
+        if (exchange.getResponseCode() == -1) {
+            sendError(exchange, HTTP_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, new JsonApiError(message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            logger.warning("Failed to encode API response: " + StringUtil.getDetails(e));
+            status = HTTP_INTERNAL_ERROR;
+            bytes = new byte[0];
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Represents an access to {@code Logic} that is run on the {@code logicExecutor}.
+     */
+    @FunctionalInterface
+    private interface LogicTask<T> {
+        T call() throws CommandException, ParseException;
+    }
+
+}
@@ -0,0 +1,22 @@
+package seedu.address.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly request body for executing a command through the {@link ApiServer}.
+ */
+class JsonApiCommandRequest {
+
+    private final String command;
+
+    @JsonCreator
+    public JsonApiCommandRequest(@JsonProperty("command") String command) {
+        this.command = command;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+}
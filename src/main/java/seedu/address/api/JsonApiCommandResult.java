@@ -0,0 +1,20 @@
+package seedu.address.api;
+
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Jackson-friendly version of {@link CommandResult}.
+ */
+class JsonApiCommandResult {
+
+    private final String feedbackToUser;
+    private final boolean showHelp;
+    private final boolean exit;
+
+    JsonApiCommandResult(CommandResult source) {
+        feedbackToUser = source.getFeedbackToUser();
+        showHelp = source.isShowHelp();
+        exit = source.isExit();
+    }
+
+}
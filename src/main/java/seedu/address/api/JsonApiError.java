@@ -0,0 +1,14 @@
+package seedu.address.api;
+
+/**
+ * Jackson-friendly error body returned by the {@link ApiServer}.
+ */
+class JsonApiError {
+
+    private final String error;
+
+    JsonApiError(String error) {
+        this.error = error;
+    }
+
+}
@@ -0,0 +1,34 @@
+package seedu.address.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly view of a {@link Person} as returned by the {@link ApiServer}.
+ */
+class JsonApiPerson {
+
+    private final int index;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+
+    /**
+     * Converts the given {@code Person}, displayed at the one-based {@code index}, into this class for Jackson use.
+     */
+    JsonApiPerson(Person source, int index) {
+        this.index = index;
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        tags = source.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.address.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.PersonPage;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly page of the filtered person list as returned by the {@link ApiServer}.
+ */
+class JsonApiPersonPage {
+
+    private final int total;
+    private final int offset;
+    private final List<JsonApiPerson> persons = new ArrayList<>();
+    private final String nextPageToken;
+
+    /**
+     * Constructs a page holding {@code persons}, which start at the zero-based {@code offset} of a list
+     * with {@code total} persons.
+     */
+    JsonApiPersonPage(List<Person> persons, int offset, int total) {
+        this(persons, offset, total, null);
+    }
+
+    /**
+     * Constructs a page holding the persons of {@code page}, and the token of the page after it if there is one.
+     */
+    JsonApiPersonPage(PersonPage page) {
+        this(page.getPersons(), page.getOffset(), page.getTotal(), page.getNextPageToken().orElse(null));
+    }
+
+    private JsonApiPersonPage(List<Person> persons, int offset, int total, String nextPageToken) {
+        this.total = total;
+        this.offset = offset;
+        this.nextPageToken = nextPageToken;
+        for (int i = 0; i < persons.size(); i++) {
+            this.persons.add(new JsonApiPerson(persons.get(i), offset + i + 1));
+        }
+    }
+
+}
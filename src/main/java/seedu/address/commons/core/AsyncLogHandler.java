@@ -0,0 +1,233 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that queues log records in a bounded ring buffer and publishes them to its target handlers
+ * on a background thread, so that logging callers never wait for console or file I/O unless the buffer is full.
+ * <p>
+ * What happens when the buffer is full is decided by the handler's {@link OverflowPolicy}. Records that are dropped
+ * are counted, and a warning with the count is published once the buffer has room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for the background thread to make room. No records are lost. */
+        BLOCK,
+        /** Drop the record being published. */
+        DROP_NEWEST,
+        /** Drop the oldest queued record to make room for the one being published. */
+        DROP_OLDEST
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final RingBuffer<LogRecord> buffer;
+    private final List<Handler> targets;
+    private final Thread drainer;
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    /** The number of threads in {@link #publish(LogRecord)} that may still add a record to the buffer. */
+    private final AtomicInteger enqueuingCount = new AtomicInteger();
+
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isDrainerIdle;
+    private volatile boolean isClosed;
+    private long reportedDroppedCount;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that queues up to {@code capacity} records for {@code targets},
+     * and starts its background thread.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        requireNonNull(overflowPolicy);
+        this.buffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.targets = Arrays.asList(targets.clone());
+        drainer = new Thread(this::drain, "log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Sets the level of this handler and of its targets.
+     */
+    @Override
+    public synchronized void setLevel(Level newLevel) {
+        super.setLevel(newLevel);
+        targets.forEach(target -> target.setLevel(newLevel));
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // counted before checking isClosed, so that close() waits for this record if it is added to the buffer
+        enqueuingCount.incrementAndGet();
+        try {
+            if (isClosed) {
+                publishToTargets(record);
+                return;
+            }
+
+            // the source is inferred from the stack on first access, which must happen on the logging thread
+            record.getSourceClassName();
+            if (enqueue(record)) {
+                enqueuedCount.incrementAndGet();
+                if (isDrainerIdle) {
+                    LockSupport.unpark(drainer);
+                }
+            }
+        } finally {
+            enqueuingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Adds {@code record} to the buffer according to the overflow policy.
+     *
+     * @return true if {@code record} was added.
+     */
+    private boolean enqueue(LogRecord record) {
+        while (!buffer.offer(record)) {
+            switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedCount.incrementAndGet();
+                return false;
+            case DROP_OLDEST:
+                if (buffer.poll() != null) {
+                    droppedCount.incrementAndGet();
+                    completedCount.incrementAndGet();
+                }
+                break;
+            default:
+                if (isClosed || Thread.currentThread() == drainer) {
+                    publishToTargets(record);
+                    return false;
+                }
+                LockSupport.unpark(drainer);
+                LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits for the records published so far to be written, then flushes the targets.
+     */
+    @Override
+    public void flush() {
+        long target = enqueuedCount.get();
+        while (completedCount.get() < target && drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes all queued records, stops the background thread and closes the targets.
+     * Records published while closing are written by the closing thread, and those published afterwards are
+     * written synchronously.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // a record may be added after the background thread's last drain by a publisher that has not yet seen
+        // isClosed, so the buffer is drained only when no publisher can still add one
+        while (enqueuingCount.get() > 0) {
+            Thread.onSpinWait();
+        }
+        drainQueued();
+        targets.forEach(Handler::close);
+    }
+
+    private void drain() {
+        while (!isClosed) {
+            if (drainQueued()) {
+                continue;
+            }
+            isDrainerIdle = true;
+            if (buffer.isEmpty() && !isClosed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            isDrainerIdle = false;
+        }
+    }
+
+    /**
+     * Publishes the records in the buffer to the targets.
+     *
+     * @return true if any record was published.
+     */
+    private boolean drainQueued() {
+        boolean hasPublished = false;
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            reportDropped();
+            publishToTargets(record);
+            completedCount.incrementAndGet();
+            hasPublished = true;
+        }
+        reportDropped();
+        return hasPublished;
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.get();
+        if (dropped == reportedDroppedCount) {
+            return;
+        }
+        LogRecord warning = new LogRecord(Level.WARNING, (dropped - reportedDroppedCount)
+                + " log records were dropped because the log buffer was full");
+        warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        reportedDroppedCount = dropped;
+        publishToTargets(warning);
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            target.publish(record);
+        }
+    }
+}
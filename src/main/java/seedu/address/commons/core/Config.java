@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Config values used by the app
  */
@@ -14,7 +16,11 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.BLOCK;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int apiServerPort = 0;
+    private int apiServerThreads = 4;
+    private boolean binaryAddressBookEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -24,6 +30,17 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns what the logger does with messages logged while its buffer is full.
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -32,6 +49,36 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the localhost port of the HTTP API server, or 0 if the server is disabled.
+     */
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    public int getApiServerThreads() {
+        return apiServerThreads;
+    }
+
+    public void setApiServerThreads(int apiServerThreads) {
+        this.apiServerThreads = apiServerThreads;
+    }
+
+    /**
+     * Returns true if the address book is stored in the experimental binary snapshot format instead of JSON.
+     */
+    public boolean isBinaryAddressBookEnabled() {
+        return binaryAddressBookEnabled;
+    }
+
+    public void setBinaryAddressBookEnabled(boolean binaryAddressBookEnabled) {
+        this.binaryAddressBookEnabled = binaryAddressBookEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +91,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(logOverflowPolicy, o.logOverflowPolicy)
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && apiServerPort == o.apiServerPort
+                && apiServerThreads == o.apiServerThreads
+                && binaryAddressBookEnabled == o.binaryAddressBookEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, apiServerPort, apiServerThreads,
+                binaryAddressBookEnabled);
     }
 
     @Override
@@ -1,52 +1,63 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not block
+ *   the caller on I/O. {@link #flush()} waits for the messages logged so far to be written.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 8192;
     private static final String LOG_FILE = "addressbook.log";
     private static Level currentLogLevel = Level.INFO;
+    private static OverflowPolicy currentOverflowPolicy = OverflowPolicy.BLOCK;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Initializes with a custom log level and buffer overflow policy (specified in the {@code config} object).
+     * The new log level applies to the messages of all loggers obtained from this class.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        currentOverflowPolicy = config.getLogOverflowPolicy();
+        getAsyncHandler().setLevel(currentLogLevel);
+        getAsyncHandler().setOverflowPolicy(currentOverflowPolicy);
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * The shared handler is added to the logger the first time it is requested.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        Handler handler = getAsyncHandler();
+        if (!Arrays.asList(logger.getHandlers()).contains(handler)) {
+            logger.setUseParentHandlers(false);
+            removeHandlers(logger);
+            logger.addHandler(handler);
+        }
+        return logger;
     }
 
     /**
@@ -60,14 +71,39 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Waits for all messages logged so far to be written to the console and the log file.
+     */
+    public static void flush() {
+        getAsyncHandler().flush();
+    }
+
+    /**
+     * Returns the {@code asyncHandler}. <br>
+     * Creates the {@code asyncHandler}, writing to the console and the log file, if it is null.
+     * If the log file cannot be opened, a warning is written to the console only.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            List<Handler> targets = new ArrayList<>();
+            targets.add(createConsoleHandler());
+            IOException fileHandlerError = null;
+            try {
+                targets.add(createFileHandler());
+            } catch (IOException e) {
+                fileHandlerError = e;
+            }
+            asyncHandler = new AsyncLogHandler(BUFFER_CAPACITY, currentOverflowPolicy,
+                    targets.toArray(new Handler[0]));
+            asyncHandler.setLevel(currentLogLevel);
+            if (fileHandlerError != null) {
+                // no logger can be obtained until the handler exists, so the warning is published to it directly
+                LogRecord warning = new LogRecord(Level.WARNING, "Error adding file handler for logger: "
+                        + fileHandlerError);
+                warning.setLoggerName(LogsCenter.class.getSimpleName());
+                asyncHandler.publish(warning);
+            }
         }
-        logger.addHandler(consoleHandler);
+        return asyncHandler;
     }
 
     /**
@@ -78,21 +114,6 @@ public class LogsCenter {
                 .forEach(logger::removeHandler);
     }
 
-    /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
-     */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
-        }
-    }
-
     /**
      * Creates a {@code FileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
@@ -0,0 +1,63 @@
+package seedu.address.commons.core.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a range of consecutive indexes, from a start {@code Index} to an end {@code Index}, both inclusive.
+ *
+ * A range only holds its two ends, so it can be passed around before the indexes it covers are resolved against a
+ * list, however many they are.
+ */
+public class IndexRange {
+    public static final String MESSAGE_CONSTRAINTS = "The end of an index range cannot be before its start.";
+
+    private final Index start;
+    private final Index end;
+
+    /**
+     * Creates a range from {@code start} to {@code end}, both inclusive.
+     * {@code end} must not be before {@code start}.
+     */
+    public IndexRange(Index start, Index end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.getZeroBased() <= end.getZeroBased(), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates a range that only covers {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        return new IndexRange(index, index);
+    }
+
+    public Index getStart() {
+        return start;
+    }
+
+    public Index getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexRange // instanceof handles nulls
+                && start.equals(((IndexRange) other).start)
+                && end.equals(((IndexRange) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start.getZeroBased(), end.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        return start.equals(end) ? String.valueOf(start.getOneBased()) : start.getOneBased() + "-" + end.getOneBased();
+    }
+}
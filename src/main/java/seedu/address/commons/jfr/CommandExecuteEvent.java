@@ -0,0 +1,21 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the execution of a parsed command against the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"AddressBook", "Logic"})
+@Description("Execution of a parsed Command against the Model")
+public class CommandExecuteEvent extends Event {
+
+    @Label("Command Word")
+    public String commandWord;
+
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the parsing of a user command.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"AddressBook", "Logic"})
+@Description("Parsing of a user command into a Command")
+public class CommandParseEvent extends Event {
+
+    @Label("Command Word")
+    public String commandWord;
+
+}
@@ -0,0 +1,24 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the re-evaluation of the filtered person list after its predicate changes.
+ */
+@Name("seedu.address.FilterUpdate")
+@Label("Filtered List Update")
+@Category({"AddressBook", "Model"})
+@Description("Re-evaluation of the filtered person list with a new predicate")
+public class FilterUpdateEvent extends Event {
+
+    @Label("Persons")
+    public int listSize;
+
+    @Label("Matching Persons")
+    public int filteredSize;
+
+}
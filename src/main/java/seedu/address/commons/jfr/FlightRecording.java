@@ -0,0 +1,52 @@
+package seedu.address.commons.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Starts continuous Flight Recorder recordings that include the app's custom events.
+ */
+public class FlightRecording {
+
+    /** How far back the continuous recording keeps events. */
+    public static final Duration MAX_AGE = Duration.ofHours(1);
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+
+    /**
+     * Starts a continuous recording with the JDK's "default" settings plus the app's events, which is written to
+     * {@code destination} when the JVM exits. Failures are logged and otherwise ignored.
+     */
+    public static void startContinuous(Path destination) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("AddressBook");
+            recording.setToDisk(true);
+            recording.setMaxAge(MAX_AGE);
+            recording.setDumpOnExit(true);
+            recording.setDestination(destination);
+            enableAppEvents(recording);
+            recording.start();
+            logger.info("Started continuous flight recording to " + destination);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start flight recording : " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static void enableAppEvents(Recording recording) {
+        recording.enable(CommandParseEvent.class);
+        recording.enable(CommandExecuteEvent.class);
+        recording.enable(StorageReadEvent.class);
+        recording.enable(StorageSaveEvent.class);
+        recording.enable(FilterUpdateEvent.class);
+        recording.enable(PersonCardCreationEvent.class);
+    }
+}
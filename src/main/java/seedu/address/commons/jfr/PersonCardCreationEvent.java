@@ -0,0 +1,21 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the creation of a {@code PersonCard}, including its FXML loading.
+ */
+@Name("seedu.address.PersonCardCreation")
+@Label("Person Card Creation")
+@Category({"AddressBook", "UI"})
+@Description("Creation of a PersonCard, including FXML loading")
+public class PersonCardCreationEvent extends Event {
+
+    @Label("Displayed Index")
+    public int displayedIndex;
+
+}
@@ -0,0 +1,26 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the reading and decoding of an address book file.
+ */
+@Name("seedu.address.StorageRead")
+@Label("Address Book Read")
+@Category({"AddressBook", "Storage"})
+@Description("Reading and decoding of an address book file")
+public class StorageReadEvent extends Event {
+
+    @Label("File")
+    public String path;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytes;
+
+}
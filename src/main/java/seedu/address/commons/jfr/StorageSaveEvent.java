@@ -0,0 +1,26 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the encoding and writing of an address book file.
+ */
+@Name("seedu.address.StorageSave")
+@Label("Address Book Save")
+@Category({"AddressBook", "Storage"})
+@Description("Encoding and writing of an address book file")
+public class StorageSaveEvent extends Event {
+
+    @Label("File")
+    public String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytes;
+
+}
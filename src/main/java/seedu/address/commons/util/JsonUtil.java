@@ -11,7 +11,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +24,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -76,6 +79,53 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array field {@code arrayFieldName} of the Json object in the given file one at a
+     * time, passing each element to {@code elementConsumer} as soon as it is decoded. Other fields are skipped.
+     * @param filePath cannot be null.
+     * @param elementClass the array elements have to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file format is not as expected, or {@code elementConsumer} rejects an
+     *     element. Elements before the error have already been passed to {@code elementConsumer}.
+     */
+    public static <T> boolean readJsonArrayElements(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementConsumer<? super T> elementConsumer) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a Json object in " + filePath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                JsonToken elementToken;
+                while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (elementToken == null) {
+                        throw new IOException("Unexpected end of " + filePath);
+                    }
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -90,6 +140,27 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns true if the file at {@code filePath} already holds the Json representation of {@code jsonFile},
+     * in which case saving {@code jsonFile} to it would not change the file.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     */
+    public static <T> boolean isJsonFileUpToDate(T jsonFile, Path filePath) {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try {
+            return FileUtil.readFromFile(filePath).equals(toJsonString(jsonFile));
+        } catch (IOException e) {
+            logger.warning("Error comparing with json file " + filePath + ": " + e);
+            return false;
+        }
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +181,18 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Receives the elements read by {@link #readJsonArrayElements}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        /**
+         * Processes {@code element}.
+         * @throws IllegalValueException if {@code element} is not valid, which stops the reading.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
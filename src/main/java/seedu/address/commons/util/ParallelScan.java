@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Finds the elements of a list that match a predicate, in parallel when the list is large.
+ * <p>
+ * A large list is cut into chunks of {@value #CHUNK_SIZE} elements, which the tasks of a {@link ForkJoinPool} test
+ * independently. The positions that match in each chunk are then joined chunk by chunk, so they come out in the
+ * order of the list whichever task finished first. The predicate must therefore be safe to call from several
+ * threads at once, and the list must not be modified during the scan. A list without fast random access, such as
+ * an unmodifiable view of a list, is first copied into an array, so that the tasks can each read their chunk.
+ */
+public class ParallelScan {
+
+    /** Lists with fewer elements than this are scanned on the calling thread, as splitting them costs more. */
+    public static final int SEQUENTIAL_THRESHOLD = 10_000;
+
+    static final int CHUNK_SIZE = 2_048;
+
+    /**
+     * Returns the positions of the elements of {@code elements} that match {@code predicate}, in increasing order.
+     * Any exception thrown by {@code predicate} is rethrown.
+     */
+    public static <E> int[] findMatches(List<E> elements, Predicate<? super E> predicate) {
+        return findMatches(elements, predicate, SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #findMatches(List, Predicate)}, but scans in parallel from {@code sequentialThreshold}
+     * elements.
+     */
+    static <E> int[] findMatches(List<E> elements, Predicate<? super E> predicate, int sequentialThreshold) {
+        requireNonNull(elements);
+        requireNonNull(predicate);
+        if (elements.size() < Math.max(sequentialThreshold, 1)) {
+            int[] matches = new int[elements.size()];
+            int count = 0;
+            int position = 0;
+            for (E element : elements) {
+                if (predicate.test(element)) {
+                    matches[count++] = position;
+                }
+                position++;
+            }
+            return Arrays.copyOf(matches, count);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<E> scanned = elements instanceof RandomAccess ? elements : (List<E>) Arrays.asList(elements.toArray());
+        int size = scanned.size();
+        int[][] chunkMatches = new int[(size + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        ForkJoinPool.commonPool().invoke(new ScanTask<>(scanned, predicate, chunkMatches, 0, chunkMatches.length));
+
+        int count = 0;
+        for (int[] matches : chunkMatches) {
+            count += matches.length;
+        }
+        int[] matches = new int[count];
+        int next = 0;
+        for (int[] chunk : chunkMatches) {
+            System.arraycopy(chunk, 0, matches, next, chunk.length);
+            next += chunk.length;
+        }
+        return matches;
+    }
+
+    /**
+     * Scans a range of chunks, splitting it in halves until it is a single chunk.
+     */
+    private static class ScanTask<E> extends RecursiveAction {
+        private final List<E> elements;
+        private final Predicate<? super E> predicate;
+        private final int[][] chunkMatches;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ScanTask(List<E> elements, Predicate<? super E> predicate, int[][] chunkMatches, int fromChunk,
+                int toChunk) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.chunkMatches = chunkMatches;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ScanTask<>(elements, predicate, chunkMatches, fromChunk, middle),
+                        new ScanTask<>(elements, predicate, chunkMatches, middle, toChunk));
+                return;
+            }
+
+            int from = fromChunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, elements.size());
+            int[] matches = new int[to - from];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (predicate.test(elements.get(i))) {
+                    matches[count++] = i;
+                }
+            }
+            chunkMatches[fromChunk] = Arrays.copyOf(matches, count);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/**
+ * Helper functions for matching words by how they sound.
+ */
+public class PhoneticUtil {
+
+    /** Keys are cut to this length, so that only the start of a long word needs to sound alike. */
+    public static final int MAX_KEY_LENGTH = 4;
+
+    /**
+     * Returns the phonetic key of {@code word}, which is shared by most words that sound alike in English.
+     * The key is a Metaphone code: vowels after the first letter are dropped, silent letters are skipped, and
+     * consonants that sound alike are mapped to the same letter, with {@code 0} for "th" and {@code X} for "sh".
+     * Non-letters are ignored, so a word without letters has an empty key.
+     *   <br>examples:<pre>
+     *       getPhoneticKey("Smith") == getPhoneticKey("Smyth") == "SM0"
+     *       getPhoneticKey("Catherine") == getPhoneticKey("Kathryn") == "K0RN"
+     *       getPhoneticKey("Philip") == getPhoneticKey("Filip") == "FLP"
+     *       </pre>
+     */
+    public static String getPhoneticKey(String word) {
+        requireNonNull(word);
+        String letters = word.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+        if (letters.matches("(AE|GN|KN|PN|WR).*")) {
+            letters = letters.substring(1);
+        }
+
+        StringBuilder key = new StringBuilder();
+        int start = 0;
+        if (letters.startsWith("X")) {
+            key.append('S');
+            start = 1;
+        } else if (letters.startsWith("WH")) {
+            key.append('W');
+            start = 2;
+        }
+
+        for (int i = start; i < letters.length() && key.length() < MAX_KEY_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            char previous = i > 0 ? letters.charAt(i - 1) : 0;
+            if (letter == previous && letter != 'C') {
+                continue;
+            }
+            appendLetterKey(key, letters, i);
+        }
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key.toString();
+    }
+
+    /**
+     * Appends the key of the letter at {@code index} of {@code letters}, which depends on the letters around it.
+     */
+    private static void appendLetterKey(StringBuilder key, String letters, int index) {
+        char letter = letters.charAt(index);
+        char previous = letterAt(letters, index - 1);
+        char next = letterAt(letters, index + 1);
+        char afterNext = letterAt(letters, index + 2);
+        boolean isLast = index == letters.length() - 1;
+
+        switch (letter) {
+        case 'A':
+        case 'E':
+        case 'I':
+        case 'O':
+        case 'U':
+            if (index == 0) {
+                key.append(letter);
+            }
+            break;
+        case 'B':
+            if (!(isLast && previous == 'M')) {
+                key.append('B');
+            }
+            break;
+        case 'C':
+            if (next == 'I' && afterNext == 'A') {
+                key.append('X');
+            } else if (next == 'H') {
+                key.append(previous == 'S' ? 'K' : 'X');
+            } else if (next == 'I' || next == 'E' || next == 'Y') {
+                if (previous != 'S') {
+                    key.append('S');
+                }
+            } else {
+                key.append('K');
+            }
+            break;
+        case 'D':
+            key.append(next == 'G' && (afterNext == 'E' || afterNext == 'I' || afterNext == 'Y') ? 'J' : 'T');
+            break;
+        case 'G':
+            if (next == 'H') {
+                if (isVowel(afterNext)) {
+                    key.append('K');
+                }
+            } else if (next == 'N' && (index + 2 == letters.length() || letters.startsWith("NED", index + 1))) {
+                break;
+            } else if (next == 'I' || next == 'E' || next == 'Y') {
+                // already sounded by a preceding D or G, as in "edge"
+                if (previous != 'D' && previous != 'G') {
+                    key.append('J');
+                }
+            } else {
+                key.append('K');
+            }
+            break;
+        case 'H':
+            boolean isAfterModifiedConsonant = "CGPST".indexOf(previous) >= 0;
+            if (!isAfterModifiedConsonant && !(isVowel(previous) && !isVowel(next))) {
+                key.append('H');
+            }
+            break;
+        case 'K':
+            if (previous != 'C') {
+                key.append('K');
+            }
+            break;
+        case 'P':
+            key.append(next == 'H' ? 'F' : 'P');
+            break;
+        case 'Q':
+            key.append('K');
+            break;
+        case 'S':
+            key.append(next == 'H' || (next == 'I' && (afterNext == 'O' || afterNext == 'A')) ? 'X' : 'S');
+            break;
+        case 'T':
+            if (next == 'I' && (afterNext == 'O' || afterNext == 'A')) {
+                key.append('X');
+            } else if (next == 'H') {
+                key.append('0');
+            } else if (!(next == 'C' && afterNext == 'H')) {
+                key.append('T');
+            }
+            break;
+        case 'V':
+            key.append('F');
+            break;
+        case 'W':
+        case 'Y':
+            // sounded only at the start of a word, elsewhere they act as vowels
+            if (index == 0 && isVowel(next)) {
+                key.append(letter);
+            }
+            break;
+        case 'X':
+            key.append("KS");
+            break;
+        case 'Z':
+            key.append('S');
+            break;
+        default:
+            // F, J, L, M, N and R sound as written
+            key.append(letter);
+        }
+    }
+
+    private static char letterAt(String letters, int index) {
+        return index >= 0 && index < letters.length() ? letters.charAt(index) : 0;
+    }
+
+    private static boolean isVowel(char letter) {
+        return "AEIOU".indexOf(letter) >= 0;
+    }
+}
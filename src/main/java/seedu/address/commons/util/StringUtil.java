@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +26,111 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // the word and the words of the sentence are compared in place, without trimming or splitting them
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        checkArgument(findWordEnd(word, wordStart, wordEnd) == wordEnd, "Word parameter should be a single word");
+
+        int wordLength = wordEnd - wordStart;
+        for (int start = findWordStart(sentence, 0); start < sentence.length();
+                start = findWordStart(sentence, start)) {
+            int end = findWordEnd(sentence, start, sentence.length());
+            if (end - start == wordLength && sentence.regionMatches(true, start, word, wordStart, wordLength)) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first character of {@code text} at or after {@code from} that is not a word
+     * separator, or the length of {@code text} if there is none. Words are separated by whitespace, as matched by
+     * {@code \s} in a regular expression.
+     */
+    static int findWordStart(String text, int from) {
+        int index = from;
+        while (index < text.length() && isWordSeparator(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns the index of the first word separator of {@code text} at or after {@code from} and before
+     * {@code to}, or {@code to} if there is none.
+     */
+    static int findWordEnd(String text, int from, int to) {
+        int index = from;
+        while (index < to && !isWordSeparator(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    private static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and transpositions of adjacent
+     * characters needed to turn {@code first} into {@code second}, or {@code maxDistance + 1} if more than
+     * {@code maxDistance} edits are needed. Stops as soon as the distance is known to exceed {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alcie", 2) == 1 //transposition
+     *       getEditDistance("alice", "alicia", 2) == 2
+     *       getEditDistance("alice", "bob", 2) == 3 //more than maxDistance
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // three rows of the dynamic programming table, indexed by the length of the prefix of second
+        int[] twoRowsAgo = new int[second.length() + 1];
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, twoRowsAgo[j - 2] + 1);
+                }
+                currentRow[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] recycledRow = twoRowsAgo;
+            twoRowsAgo = previousRow;
+            previousRow = currentRow;
+            currentRow = recycledRow;
+        }
+        return Math.min(previousRow[second.length()], maxDistance + 1);
     }
 
     /**
@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+
+/**
+ * Matches sentences against a fixed set of keywords, each of which must appear as a whole word, ignoring case.
+ * <p>
+ * The keywords are case-folded and hashed once, when the matcher is created. Matching scans the sentence in place:
+ * each word of the sentence is hashed as it is read and only compared with the keywords of the same length and hash,
+ * so all keywords are checked in one pass and nothing is allocated.
+ */
+public class WordMatcher {
+
+    private final String[] keywords;
+    private final int[] keywordHashes;
+
+    /**
+     * Creates a {@code WordMatcher} for {@code keywords}.
+     *
+     * @param keywords cannot be null, and each keyword cannot be empty and must be a single word.
+     */
+    public WordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new String[keywords.size()];
+        this.keywordHashes = new int[keywords.size()];
+        int i = 0;
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            checkArgument(!trimmed.isEmpty(), "Keywords cannot be empty");
+            checkArgument(StringUtil.findWordEnd(trimmed, 0, trimmed.length()) == trimmed.length(),
+                    "Keywords should be single words");
+            this.keywords[i] = fold(trimmed);
+            this.keywordHashes[i] = hash(this.keywords[i], 0, trimmed.length());
+            i++;
+        }
+    }
+
+    /**
+     * Returns true if {@code sentence} contains any of the keywords as a whole word, ignoring case.
+     */
+    public boolean matchesAny(String sentence) {
+        requireNonNull(sentence);
+        for (int start = StringUtil.findWordStart(sentence, 0); start < sentence.length();
+                start = StringUtil.findWordStart(sentence, start)) {
+            int end = StringUtil.findWordEnd(sentence, start, sentence.length());
+            int wordHash = hash(sentence, start, end);
+            for (int i = 0; i < keywords.length; i++) {
+                if (isKeyword(i, sentence, start, end, wordHash)) {
+                    return true;
+                }
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains every keyword as a whole word, ignoring case.
+     * Returns true if there are no keywords.
+     */
+    public boolean matchesAll(String sentence) {
+        requireNonNull(sentence);
+        if (keywords.length > Long.SIZE) {
+            // too many keywords to track in one pass, which no search typed by a user needs
+            for (String keyword : keywords) {
+                if (!StringUtil.containsWordIgnoreCase(sentence, keyword)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long allFound = keywords.length == Long.SIZE ? -1L : (1L << keywords.length) - 1;
+        long found = 0;
+        for (int start = StringUtil.findWordStart(sentence, 0); start < sentence.length() && found != allFound;
+                start = StringUtil.findWordStart(sentence, start)) {
+            int end = StringUtil.findWordEnd(sentence, start, sentence.length());
+            int wordHash = hash(sentence, start, end);
+            for (int i = 0; i < keywords.length; i++) {
+                if (isKeyword(i, sentence, start, end, wordHash)) {
+                    found |= 1L << i;
+                }
+            }
+            start = end;
+        }
+        return found == allFound;
+    }
+
+    /**
+     * Returns true if the keyword at {@code index} equals the word of {@code sentence} between {@code start} and
+     * {@code end}, whose hash is {@code wordHash}, ignoring case.
+     */
+    private boolean isKeyword(int index, String sentence, int start, int end, int wordHash) {
+        int length = end - start;
+        return keywordHashes[index] == wordHash && keywords[index].length() == length
+                && sentence.regionMatches(true, start, keywords[index], 0, length);
+    }
+
+    /**
+     * Returns a hash of the characters of {@code text} between {@code start} and {@code end} that is the same for
+     * any two texts that are equal ignoring case.
+     */
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(text.charAt(i));
+        }
+        return hash;
+    }
+
+    private static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            folded.append(fold(text.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Folds the case of {@code c} the same way as {@link String#regionMatches(boolean, int, String, int, int)}.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableValue;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Loads the initial address book into a {@code Model} progressively. Persons are read from storage in chunks on a
+ * background thread, and added to the model on the thread that owns it as the chunks arrive, so the first persons
+ * can be displayed before the whole file has been read.
+ * <p>
+ * If the data file is not found, the sample address book is loaded instead. If the data file turns out to be invalid
+ * part-way through, the persons loaded so far are discarded and the model is left with an empty address book.
+ * Commands that need the full address book must not run until the load {@link #isComplete()}.
+ */
+public class AddressBookLoader {
+
+    public static final int CHUNK_SIZE = 100;
+    public static final String MESSAGE_LOADING = "Loading... %1$d persons";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final Queue<List<Person>> chunks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean();
+    private final StringProperty status = new SimpleStringProperty("");
+
+    private CompletableFuture<Optional<ReadOnlyAddressBook>> reading;
+    private long startTime;
+    private int loadedCount;
+    private boolean isComplete;
+
+    /**
+     * Creates an {@code AddressBookLoader} that adds persons to {@code model} by running tasks on
+     * {@code modelExecutor}, which must be the thread that owns the model.
+     */
+    public AddressBookLoader(Model model, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts reading the address book from {@code storage} on {@code readerExecutor}.
+     */
+    public void start(AddressBookStorage storage, Executor readerExecutor) {
+        requireNonNull(storage);
+        requireNonNull(readerExecutor);
+        startTime = System.nanoTime();
+        status.set(String.format(MESSAGE_LOADING, 0));
+        reading = CompletableFuture.supplyAsync(() -> read(storage), readerExecutor);
+        reading.thenRun(this::scheduleDrain);
+    }
+
+    /**
+     * Returns a message describing the progress of the load, which is empty once the load is complete.
+     */
+    public ObservableValue<String> getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns true if the model holds the full initial address book.
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Waits for the address book to be read, then adds any remaining persons to the model.
+     * Must be called on the thread that owns the model, which it blocks until the whole file has been read, so it
+     * is only meant for callers without a UI.
+     */
+    public void awaitCompletion() {
+        if (isComplete || reading == null) {
+            return;
+        }
+        reading.join();
+        drain();
+    }
+
+    /**
+     * Reads {@code storage} chunk by chunk, handing the chunks to the model thread.
+     *
+     * @return the address book that is to replace the persons read, if any.
+     */
+    private Optional<ReadOnlyAddressBook> read(AddressBookStorage storage) {
+        Optional<ReadOnlyAddressBook> replacement;
+        try {
+            boolean isFound = storage.readAddressBookInChunks(CHUNK_SIZE, chunk -> {
+                chunks.add(chunk);
+                scheduleDrain();
+            });
+            if (isFound) {
+                replacement = Optional.empty();
+            } else {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+                replacement = Optional.of(SampleDataUtil.getSampleAddressBook());
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            replacement = Optional.of(new AddressBook());
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            replacement = Optional.of(new AddressBook());
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error while reading the data file. Will be starting with an empty AddressBook: "
+                    + StringUtil.getDetails(e));
+            replacement = Optional.of(new AddressBook());
+        }
+        return replacement;
+    }
+
+    private void scheduleDrain() {
+        if (isDrainScheduled.compareAndSet(false, true)) {
+            modelExecutor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Adds the chunks read so far to the model, and completes the load if reading is done.
+     */
+    private void drain() {
+        isDrainScheduled.set(false);
+        if (isComplete) {
+            return;
+        }
+
+        List<Person> chunk;
+        while ((chunk = chunks.poll()) != null) {
+            model.addPersons(chunk);
+            loadedCount += chunk.size();
+        }
+
+        if (reading != null && reading.isDone()) {
+            reading.join().ifPresent(model::setAddressBook);
+            isComplete = true;
+            status.set("");
+            logger.info(String.format("Loaded %d persons in %d ms", model.getAddressBook().getPersonList().size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        } else {
+            status.set(String.format(MESSAGE_LOADING, loadedCount));
+        }
+    }
+}
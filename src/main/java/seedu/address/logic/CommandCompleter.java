@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.index.PrefixTrie;
+
+/**
+ * Suggests completions for the last word of a partially typed command:
+ * <ul>
+ *     <li>the command word, if it is the only word,</li>
+ *     <li>a tag name, after {@code t/},</li>
+ *     <li>a word of a person's name, after {@code n/} or in the keywords of a {@code find} command.</li>
+ * </ul>
+ */
+public class CommandCompleter {
+
+    private final Model model;
+    private final PrefixTrie commandWords = new PrefixTrie();
+
+    /**
+     * Creates a {@code CommandCompleter} that suggests the names and tags in {@code model}.
+     */
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        AddressBookParser.COMMAND_WORDS.forEach(commandWords::add);
+    }
+
+    /**
+     * Returns at most {@code limit} completions of {@code commandText}, which are {@code commandText} with its last
+     * word completed. Returns an empty list if there is nothing to complete.
+     */
+    public List<String> complete(String commandText, int limit) {
+        requireNonNull(commandText);
+        int wordStart = lastWordStart(commandText);
+        String head = commandText.substring(0, wordStart);
+        String word = commandText.substring(wordStart);
+        if (word.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> completions;
+        if (head.isBlank()) {
+            completions = commandWords.complete(word, limit);
+        } else if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            completions = prefixAll(PREFIX_TAG.getPrefix(),
+                    model.completeTagName(word.substring(PREFIX_TAG.getPrefix().length()), limit));
+        } else if (word.startsWith(PREFIX_NAME.getPrefix())) {
+            completions = prefixAll(PREFIX_NAME.getPrefix(),
+                    model.completeNameWord(word.substring(PREFIX_NAME.getPrefix().length()), limit));
+        } else if (head.trim().split("\\s+", 2)[0].equals(FindCommand.COMMAND_WORD)) {
+            completions = model.completeNameWord(word, limit);
+        } else {
+            return List.of();
+        }
+
+        return completions.stream()
+                .filter(completion -> !completion.equals(word))
+                .map(completion -> head + completion)
+                .collect(Collectors.toList());
+    }
+
+    private static int lastWordStart(String text) {
+        int i = text.length();
+        while (i > 0 && !Character.isWhitespace(text.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static List<String> prefixAll(String prefix, List<String> words) {
+        return words.stream().map(word -> prefix + word).collect(Collectors.toList());
+    }
+}
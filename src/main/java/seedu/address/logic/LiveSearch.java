@@ -0,0 +1,131 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSetPredicate;
+
+/**
+ * Filters the person list while a {@code find} command is being typed.
+ * <p>
+ * The keywords are looked up in the model's name index on a worker thread, and only the result of the latest
+ * search is published to the filtered person list, on the thread that owns the model. A search that is still
+ * running when a newer one starts is cancelled, and its result is discarded. When the text stops being such a
+ * {@code find} command, the filter and order the list had before the first result was shown are restored.
+ */
+public class LiveSearch {
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ExecutorService worker;
+    private final AtomicLong latestSearch = new AtomicLong();
+
+    private Future<?> runningSearch;
+    private boolean isFiltering;
+    private Predicate<Person> savedPredicate;
+    private Optional<Comparator<Person>> savedComparator;
+
+    /**
+     * Creates a {@code LiveSearch} that searches {@code model} on {@code worker} and publishes the results by running
+     * tasks on {@code modelExecutor}, which must be the thread that owns the model.
+     */
+    public LiveSearch(Model model, Executor modelExecutor, ExecutorService worker) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        requireNonNull(worker);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.worker = worker;
+    }
+
+    /**
+     * Starts filtering the person list by the keywords of {@code commandText} if it is a {@code find} command with
+     * keywords, cancelling any search in progress. Otherwise, restores the list as it was before the earlier
+     * searches if it was filtered by them. Must be called on the thread that owns the model.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        long search = latestSearch.incrementAndGet();
+        stopRunningSearch();
+        String[] words = commandText.trim().split("\\s+");
+        if (!isLiveSearchable(words)) {
+            if (isFiltering) {
+                if (savedComparator.isPresent()) {
+                    model.updateFilteredPersonList(savedPredicate, savedComparator.get());
+                } else {
+                    model.updateFilteredPersonList(savedPredicate);
+                }
+                isFiltering = false;
+            }
+            return;
+        }
+
+        List<String> keywords = Arrays.asList(words).subList(1, words.length);
+        runningSearch = worker.submit(() -> {
+            Set<Person> matches = model.findPersonsByNameWords(keywords);
+            if (!Thread.currentThread().isInterrupted()) {
+                modelExecutor.execute(() -> publish(search, matches));
+            }
+        });
+    }
+
+    /**
+     * Stops the search in progress, if any, and leaves the person list as it is, for instance because a command is
+     * about to be executed. Must be called on the thread that owns the model.
+     */
+    public void cancel() {
+        latestSearch.incrementAndGet();
+        stopRunningSearch();
+        isFiltering = false;
+    }
+
+    /**
+     * Stops the worker thread.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Returns true if {@code words} are those of a {@code find} command with keywords that matches them exactly.
+     * Other modes rank their results, which is left to the command itself.
+     */
+    private static boolean isLiveSearchable(String[] words) {
+        return words[0].equals(FindCommand.COMMAND_WORD) && words.length >= 2
+                && Arrays.stream(words).noneMatch(word -> word.startsWith(PREFIX_MODE.getPrefix()));
+    }
+
+    private void stopRunningSearch() {
+        if (runningSearch != null) {
+            runningSearch.cancel(true);
+            runningSearch = null;
+        }
+    }
+
+    private void publish(long search, Set<Person> matches) {
+        if (search != latestSearch.get()) {
+            return;
+        }
+        if (!isFiltering) {
+            savedPredicate = model.getFilteredPersonListPredicate();
+            savedComparator = model.getFilteredPersonListComparator();
+        }
+        model.updateFilteredPersonList(new PersonSetPredicate(matches));
+        isFiltering = true;
+        runningSearch = null;
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStatistics;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -23,6 +27,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the latency and throughput statistics of the commands executed so far.
+     */
+    CommandStatistics getCommandStatistics();
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +42,40 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the first page of a snapshot of the filtered list of persons.
+     *
+     * @see seedu.address.model.Model#getFirstPersonPage(int)
+     */
+    PersonPage getFirstPersonPage(int pageSize);
+
+    /**
+     * Returns the page named by {@code pageToken}.
+     *
+     * @see seedu.address.model.Model#getPersonPage(String, int)
+     */
+    PersonPage getPersonPage(String pageToken, int pageSize);
+
+    /**
+     * Returns at most {@code limit} suggestions for completing the last word of {@code commandText},
+     * each of which is the whole completed command text.
+     */
+    List<String> getCompletions(String commandText, int limit);
+
+    /**
+     * Filters the person list by the {@code find} command being typed in {@code commandText}, in the background.
+     * Has no effect if live search is not enabled.
+     *
+     * @see LiveSearch#update(String)
+     */
+    void updateLiveSearch(String commandText);
+
+    /**
+     * Returns a message describing the progress of loading the address book at startup,
+     * which is empty when the address book is fully loaded.
+     */
+    ObservableValue<String> getLoadStatus();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,18 +1,27 @@
 package seedu.address.logic;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStatistics;
+import seedu.address.logic.stats.CommandStatistics.Phase;
 import seedu.address.model.Model;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -22,36 +31,133 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_STILL_LOADING = "The address book is still loading. "
+            + "Please try again once it has loaded.";
+    private static final ObservableValue<String> NO_LOAD_STATUS = new SimpleStringProperty("");
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandStatistics statistics;
+    private final CommandCompleter completer;
+    private AddressBookLoader initialLoad;
+    private LiveSearch liveSearch;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandStatistics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which records its command handling into {@code statistics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandStatistics statistics) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.statistics = statistics;
+        addressBookParser = new AddressBookParser(statistics);
+        completer = new CommandCompleter(model);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (liveSearch != null) {
+            liveSearch.cancel();
+        }
+
+        boolean isSuccessful = false;
+        try {
+            CommandParseEvent parseEvent = new CommandParseEvent();
+            parseEvent.begin();
+            long startTime = System.nanoTime();
+            Command command = addressBookParser.parseCommand(commandText);
+            boolean isLoading = initialLoad != null && !initialLoad.isComplete();
+            if (isLoading && command.requiresLoadedAddressBook()) {
+                throw new CommandException(MESSAGE_STILL_LOADING);
+            }
+            String commandWord = commandText.trim().split("\\s+", 2)[0];
+            long parsedTime = System.nanoTime();
+            parseEvent.commandWord = commandWord;
+            parseEvent.commit();
+            statistics.recordPhase(commandWord, Phase.PARSE, parsedTime - startTime);
+
+            CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+            executeEvent.begin();
+            CommandResult commandResult = command.execute(model);
+            long executedTime = System.nanoTime();
+            executeEvent.commandWord = commandWord;
+            executeEvent.commit();
+            statistics.recordPhase(commandWord, Phase.EXECUTE, executedTime - parsedTime);
+
+            // saving a partly loaded address book would overwrite the rest of the data file
+            if (!isLoading) {
+                try {
+                    storage.saveAddressBook(model.getAddressBook());
+                } catch (IOException ioe) {
+                    throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+                }
+                statistics.recordPhase(commandWord, Phase.PERSIST, System.nanoTime() - executedTime);
+                recordBytesSaved();
+            }
+
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            statistics.recordCommand(isSuccessful);
+        }
+    }
+
+    /**
+     * Sets the load of the initial address book. Until it is complete, commands that need the address book are
+     * refused instead of waiting for it, so that the UI is not blocked.
+     */
+    public void setInitialLoad(AddressBookLoader initialLoad) {
+        this.initialLoad = initialLoad;
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    /**
+     * Enables filtering the person list while a {@code find} command is being typed, using {@code liveSearch}.
+     */
+    public void setLiveSearch(LiveSearch liveSearch) {
+        this.liveSearch = liveSearch;
+    }
 
+    /**
+     * Records the size of the saved address book file.
+     */
+    private void recordBytesSaved() {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            statistics.recordBytesSaved(Files.size(storage.getAddressBookFilePath()));
         } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            logger.fine("Could not determine the size of the saved address book: " + ioe);
         }
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return statistics;
+    }
 
-        return commandResult;
+    @Override
+    public List<String> getCompletions(String commandText, int limit) {
+        return completer.complete(commandText, limit);
+    }
+
+    @Override
+    public void updateLiveSearch(String commandText) {
+        if (liveSearch != null) {
+            liveSearch.update(commandText);
+        }
+    }
+
+    @Override
+    public ObservableValue<String> getLoadStatus() {
+        return initialLoad == null ? NO_LOAD_STATUS : initialLoad.getStatus();
     }
 
     @Override
@@ -64,6 +170,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PersonPage getFirstPersonPage(int pageSize) {
+        return model.getFirstPersonPage(pageSize);
+    }
+
+    @Override
+    public PersonPage getPersonPage(String pageToken, int pageSize) {
+        return model.getPersonPage(pageToken, pageSize);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
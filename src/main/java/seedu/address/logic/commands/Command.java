@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can only run once the whole address book has been loaded.
+     * Commands that neither read nor change the address book can run while it is still loading.
+     */
+    public boolean requiresLoadedAddressBook() {
+        return true;
+    }
+
 }
@@ -1,33 +1,64 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes the persons identified using their displayed indexes from the address book, or every displayed person.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the persons identified by the index numbers used in the displayed person list, "
+            + "or with " + KEYWORD_ALL + ", every person in the displayed person list.\n"
+            + "Parameters: INDEX[,INDEX|INDEX-INDEX]... (must be positive integers) or " + KEYWORD_ALL + "\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 3,7,10-15\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL;
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons";
 
-    private final Index targetIndex;
+    /** The ranges of indexes of the persons to delete, or null to delete every displayed person. */
+    private final List<IndexRange> targetRanges;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(IndexRange.of(targetIndex)));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the persons at every index in {@code targetRanges}.
+     */
+    public DeleteCommand(List<IndexRange> targetRanges) {
+        requireNonNull(targetRanges);
+        checkArgument(!targetRanges.isEmpty(), "There must be at least one index to delete");
+        this.targetRanges = List.copyOf(targetRanges);
+    }
+
+    private DeleteCommand() {
+        this.targetRanges = null;
+    }
+
+    /**
+     * Returns a DeleteCommand that deletes every person in the displayed person list at once.
+     */
+    public static DeleteCommand forAllListed() {
+        return new DeleteCommand();
     }
 
     @Override
@@ -35,19 +66,43 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        // all the persons are found before any is deleted, as the displayed list changes as they are deleted
+        List<Person> personsToDelete = targetRanges == null
+                ? List.copyOf(lastShownList)
+                : getTargetPersons(lastShownList);
+        if (personsToDelete.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_LISTED);
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
+        if (personsToDelete.size() == 1) {
+            model.deletePerson(personsToDelete.get(0));
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personsToDelete.get(0)));
+        }
+        model.deletePersons(personsToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
+    }
+
+    /**
+     * Returns the persons in {@code lastShownList} at the indexes in the target ranges, in the order of the list and
+     * each only once, even if the ranges overlap.
+     *
+     * @throws CommandException if any index is outside of the list.
+     */
+    private List<Person> getTargetPersons(List<Person> lastShownList) throws CommandException {
+        BitSet positions = new BitSet();
+        for (IndexRange range : targetRanges) {
+            if (range.getEnd().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            positions.set(range.getStart().getZeroBased(), range.getEnd().getZeroBased() + 1);
+        }
+        return positions.stream().mapToObj(lastShownList::get).collect(Collectors.toList());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && Objects.equals(targetRanges, ((DeleteCommand) other).targetRanges)); // state check
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -8,9 +9,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -25,9 +28,10 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
- * Edits the details of an existing person in the address book.
+ * Edits the details of an existing person in the address book, or of every displayed person.
  */
 public class EditCommand extends Command {
 
@@ -35,8 +39,10 @@ public class EditCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the person identified "
             + "by the index number used in the displayed person list. "
-            + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Existing values will be overwritten by the input values. "
+            + "With " + KEYWORD_ALL + ", every person in the displayed person list is edited, except for names, "
+            + "and the input tags are added to the existing tags.\n"
+            + "Parameters: INDEX (must be a positive integer) or " + KEYWORD_ALL + " "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -44,12 +50,18 @@ public class EditCommand extends Command {
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL + " "
+            + PREFIX_TAG + "colleagues";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
+    public static final String MESSAGE_EDIT_PERSONS_SUCCESS = "Edited %1$d persons";
+    public static final String MESSAGE_NAME_EDITED_FOR_ALL = "Names cannot be edited for all displayed persons, "
+            + "as every person must have a different name.";
 
+    /** The index of the person to edit, or null to edit every displayed person. */
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
 
@@ -65,11 +77,30 @@ public class EditCommand extends Command {
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
+    private EditCommand(EditPersonDescriptor editPersonDescriptor) {
+        this.index = null;
+        this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+    }
+
+    /**
+     * Returns an EditCommand that edits every person in the displayed person list at once.
+     *
+     * @param editPersonDescriptor details to edit the persons with
+     */
+    public static EditCommand forAllListed(EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(editPersonDescriptor);
+        return new EditCommand(editPersonDescriptor);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
+        if (index == null) {
+            return editAll(model, lastShownList);
+        }
+
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
@@ -86,19 +117,67 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
 
+    /**
+     * Edits every person in {@code lastShownList} as a single change of the model.
+     */
+    private CommandResult editAll(Model model, List<Person> lastShownList) throws CommandException {
+        if (editPersonDescriptor.getName().isPresent()) {
+            throw new CommandException(MESSAGE_NAME_EDITED_FOR_ALL);
+        }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_LISTED);
+        }
+
+        // persons with the same tags share the same tags after the edit
+        Map<Set<Tag>, Set<Tag>> updatedTags = new HashMap<>();
+        Map<Person, Person> editedPersons = new HashMap<>();
+        for (Person personToEdit : lastShownList) {
+            Set<Tag> tags = updatedTags.computeIfAbsent(personToEdit.getTags(), this::addTags);
+            editedPersons.put(personToEdit, createEditedPerson(personToEdit, editPersonDescriptor, tags));
+        }
+        model.setPersons(editedPersons);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSONS_SUCCESS, editedPersons.size()));
+    }
+
+    /**
+     * Returns {@code tags} with the tags of the descriptor added. If the descriptor edits the tags to an empty set,
+     * the tags are cleared instead, and if it does not edit tags, {@code tags} is returned.
+     */
+    private Set<Tag> addTags(Set<Tag> tags) {
+        Optional<Set<Tag>> tagsToAdd = editPersonDescriptor.getTags();
+        if (tagsToAdd.isEmpty()) {
+            return tags;
+        }
+        if (tagsToAdd.get().isEmpty()) {
+            return tagsToAdd.get();
+        }
+        Set<Tag> addedTags = new HashSet<>(tags);
+        addedTags.addAll(tagsToAdd.get());
+        return TagSet.of(addedTags);
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
      */
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
+        return createEditedPerson(personToEdit, editPersonDescriptor,
+                editPersonDescriptor.getTags().orElse(personToEdit.getTags()));
+    }
+
+    /**
+     * Creates and returns a {@code Person} with the details of {@code personToEdit}
+     * edited with {@code editPersonDescriptor}, and with {@code updatedTags}.
+     */
+    private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor,
+            Set<Tag> updatedTags) {
         assert personToEdit != null;
 
         Name updatedName = editPersonDescriptor.getName().orElse(personToEdit.getName());
         Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
-        Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
     }
 
@@ -116,7 +195,7 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return Objects.equals(index, e.index)
                 && editPersonDescriptor.equals(e.editPersonDescriptor);
     }
 
@@ -186,10 +265,10 @@ public class EditCommand extends Command {
 
         /**
          * Sets {@code tags} to this object's {@code tags}.
-         * A defensive copy of {@code tags} is used internally.
+         * An immutable copy of {@code tags} is used internally, which is shared by all the persons edited with it.
          */
         public void setTags(Set<Tag> tags) {
-            this.tags = (tags != null) ? new HashSet<>(tags) : null;
+            this.tags = (tags != null) ? TagSet.of(tags) : null;
         }
 
         /**
@@ -198,7 +277,7 @@ public class EditCommand extends Command {
          * Returns {@code Optional#empty()} if {@code tags} is null.
          */
         public Optional<Set<Tag>> getTags() {
-            return (tags != null) ? Optional.of(Collections.unmodifiableSet(tags)) : Optional.empty();
+            return Optional.ofNullable(tags);
         }
 
         @Override
@@ -1,10 +1,18 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSetPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -16,27 +24,78 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + PREFIX_MODE + "fuzzy, names with words spelt similarly to the keywords are also found, "
+            + "the closest matches first. With " + PREFIX_MODE + "phonetic, names with words that sound like the "
+            + "keywords are found.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_MODE + "MODE]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " alcie " + PREFIX_MODE + "fuzzy\n"
+            + "Example: " + COMMAND_WORD + " kathryn " + PREFIX_MODE + "phonetic";
+
+    /**
+     * Represents how the keywords are matched against the words of a name.
+     */
+    public enum Mode {
+        /** The word must be equal to the keyword, ignoring case. */
+        EXACT,
+        /** The word must be spelt similarly to the keyword, ignoring case. */
+        FUZZY,
+        /** The word must sound like the keyword. */
+        PHONETIC
+    }
 
     private final NameContainsKeywordsPredicate predicate;
+    private final Mode mode;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, Mode.EXACT);
+    }
+
+    /**
+     * Creates a FindCommand to find the persons whose name matches the keywords of {@code predicate} in the given
+     * {@code mode}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, Mode mode) {
+        requireNonNull(predicate);
+        requireNonNull(mode);
         this.predicate = predicate;
+        this.mode = mode;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        switch (mode) {
+        case FUZZY:
+            showRanked(model, model.findPersonsByFuzzyName(predicate.getKeywords()));
+            break;
+        case PHONETIC:
+            model.updateFilteredPersonList(
+                    new PersonSetPredicate(model.findPersonsByPhoneticName(predicate.getKeywords())));
+            break;
+        default:
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Shows only the persons in {@code rankedPersons}, in that order.
+     */
+    private static void showRanked(Model model, List<Person> rankedPersons) {
+        Map<Person, Integer> ranks = new HashMap<>();
+        for (Person person : rankedPersons) {
+            ranks.put(person, ranks.size());
+        }
+        model.updateFilteredPersonList(new PersonSetPredicate(ranks.keySet()), Comparator.comparing(ranks::get));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && mode == ((FindCommand) other).mode); // state check
     }
 }
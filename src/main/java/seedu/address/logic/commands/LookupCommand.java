@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.index.PhoneIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSetPredicate;
+
+/**
+ * Finds and lists all persons in address book whose phone number is, starts with or ends with the given digits.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons with the given phone number "
+            + "and displays them as a list with index numbers. End the number with * to find the numbers that start "
+            + "with it, or start it with * to find the numbers that end with it. Spaces, dashes, brackets and "
+            + "+ in the number are ignored.\n"
+            + "Parameters: [*]PHONE_NUMBER[*]\n"
+            + "Example: " + COMMAND_WORD + " 9123 4567\n"
+            + "Example: " + COMMAND_WORD + " *4567";
+
+    private final String digits;
+    private final PhoneIndex.Match match;
+
+    /**
+     * Creates a LookupCommand to find the persons whose phone number matches {@code digits} in the given way.
+     */
+    public LookupCommand(String digits, PhoneIndex.Match match) {
+        requireNonNull(digits);
+        requireNonNull(match);
+        this.digits = digits;
+        this.match = match;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.findPersonsByPhone(digits, match);
+        model.updateFilteredPersonList(new PersonSetPredicate(matches));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LookupCommand // instanceof handles nulls
+                && digits.equals(((LookupCommand) other).digits)
+                && match == ((LookupCommand) other).match); // state check
+    }
+}
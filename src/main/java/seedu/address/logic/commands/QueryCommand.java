@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSetPredicate;
+import seedu.address.model.query.Query;
+
+/**
+ * Finds and lists all persons in address book that satisfy a structured query over their fields, or explains how
+ * they would be found.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+    public static final String EXPLAIN_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons that satisfy the given "
+            + "conditions on their name (n/), phone (p/), email (e/), address (a/) and tags (t/), and displays them "
+            + "as a list with index numbers. Conditions can be combined with and, or, not and brackets, and "
+            + "conditions next to each other must all be satisfied. Quote values with spaces. Start with "
+            + EXPLAIN_WORD + " to show how the persons would be found instead.\n"
+            + "Parameters: [" + EXPLAIN_WORD + "] CONDITION [[and|or] [not] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " t/friends and (n/alice or a/\"clementi ave\") and not p/9123*";
+
+    public static final String MESSAGE_EXPLAIN = "Plan for %1$s:\n%2$s";
+
+    private final Query query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a QueryCommand to find the persons that satisfy {@code query}, or only to explain how they would be
+     * found if {@code isExplain} is true.
+     */
+    public QueryCommand(Query query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isExplain) {
+            return new CommandResult(String.format(MESSAGE_EXPLAIN, query, model.explainQuery(query)));
+        }
+
+        Set<Person> matches = model.findPersons(query);
+        model.updateFilteredPersonList(new PersonSetPredicate(matches));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query)
+                && isExplain == ((QueryCommand) other).isExplain); // state check
+    }
+}
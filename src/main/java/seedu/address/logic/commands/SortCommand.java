@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.index.SortKeyIndex.Field;
+
+/**
+ * Orders the displayed persons by a field, or back in the order they were added.
+ * The order is kept as persons are added, edited or filtered, until it is changed again.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String NONE_WORD = "none";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Orders the displayed persons by a field.\n"
+            + "Parameters: " + getFieldWord(Field.NAME) + "|" + getFieldWord(Field.PHONE) + "|"
+            + getFieldWord(Field.EMAIL) + "|" + getFieldWord(Field.ADDRESS) + "|" + NONE_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + getFieldWord(Field.NAME);
+
+    public static final String MESSAGE_SORT_SUCCESS = "Sorted persons by %1$s";
+    public static final String MESSAGE_UNSORT_SUCCESS = "Persons are in the order they were added";
+
+    private final Optional<Field> field;
+
+    /**
+     * Creates a SortCommand to order the displayed persons by {@code field}, or in the order they were added if
+     * {@code field} is empty.
+     */
+    public SortCommand(Optional<Field> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Returns the word that selects {@code field} in the command.
+     */
+    public static String getFieldWord(Field field) {
+        return field.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortPersonList(field);
+        return new CommandResult(field.map(f -> String.format(MESSAGE_SORT_SUCCESS, getFieldWord(f)))
+                .orElse(MESSAGE_UNSORT_SUCCESS));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && field.equals(((SortCommand) other).field)); // state check
+    }
+}
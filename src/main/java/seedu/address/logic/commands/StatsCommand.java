@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.stats.CommandStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long parsing, executing and saving took for each kind of command executed so far.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows latency statistics of the commands executed so far.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandStatistics statistics;
+
+    public StatsCommand(CommandStatistics statistics) {
+        requireNonNull(statistics);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(statistics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && statistics == ((StatsCommand) other).statistics); // state check
+    }
+
+    @Override
+    public boolean requiresLoadedAddressBook() {
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Renames, merges or deletes tags across the whole address book.
+ * Only the persons with the tags are edited, which are found from the tag index rather than by scanning every
+ * person, and they are all replaced in a single change of the model.
+ */
+public class TagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag";
+    public static final String INTO_WORD = "into";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Renames, merges or deletes tags for every person "
+            + "in the address book.\n"
+            + "Parameters: " + Action.RENAME.getWord() + " OLD_TAG NEW_TAG\n"
+            + "or: " + Action.MERGE.getWord() + " TAG [MORE_TAGS]... " + INTO_WORD + " NEW_TAG\n"
+            + "or: " + Action.DELETE.getWord() + " TAG [MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " " + Action.RENAME.getWord() + " colleagues work\n"
+            + "Example: " + COMMAND_WORD + " " + Action.MERGE.getWord() + " family relatives " + INTO_WORD
+            + " kin";
+
+    public static final String MESSAGE_RENAME_SUCCESS = "Renamed %1$s to %2$s for %3$d persons";
+    public static final String MESSAGE_MERGE_SUCCESS = "Merged %1$s into %2$s for %3$d persons";
+    public static final String MESSAGE_DELETE_SUCCESS = "Deleted %1$s from %2$d persons";
+    public static final String MESSAGE_TAGS_NOT_FOUND = "No person has %1$s";
+
+    /**
+     * Represents what is done to the tags.
+     */
+    public enum Action {
+        /** Replaces one tag with another. */
+        RENAME,
+        /** Replaces several tags with one. */
+        MERGE,
+        /** Removes the tags. */
+        DELETE;
+
+        /**
+         * Returns the word that selects this action in the command.
+         */
+        public String getWord() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Action action;
+    private final Set<Tag> tags;
+    private final Tag newTag;
+
+    /**
+     * Creates a TagCommand to replace {@code tags} with {@code newTag} for every person with any of them, or only
+     * to remove them if {@code action} is {@link Action#DELETE}, in which case {@code newTag} must be null.
+     */
+    public TagCommand(Action action, Set<Tag> tags, Tag newTag) {
+        requireNonNull(action);
+        requireNonNull(tags);
+        checkArgument(!tags.isEmpty(), "There must be at least one tag");
+        checkArgument((action == Action.DELETE) == (newTag == null), "Only deleting tags has no new tag");
+        this.action = action;
+        this.tags = Set.copyOf(tags);
+        this.newTag = newTag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Person> personsToEdit = model.findPersonsByAnyTag(tags);
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_TAGS_NOT_FOUND, describe(tags)));
+        }
+
+        Map<Person, Person> editedPersons = new HashMap<>();
+        for (Person personToEdit : personsToEdit) {
+            editedPersons.put(personToEdit, createEditedPerson(personToEdit));
+        }
+        model.setPersons(editedPersons);
+
+        switch (action) {
+        case RENAME:
+            return new CommandResult(String.format(MESSAGE_RENAME_SUCCESS, describe(tags), newTag,
+                    editedPersons.size()));
+        case MERGE:
+            return new CommandResult(String.format(MESSAGE_MERGE_SUCCESS, describe(tags), newTag,
+                    editedPersons.size()));
+        default:
+            return new CommandResult(String.format(MESSAGE_DELETE_SUCCESS, describe(tags), editedPersons.size()));
+        }
+    }
+
+    /**
+     * Creates and returns a {@code Person} with the details of {@code personToEdit}, with the tags replaced.
+     */
+    private Person createEditedPerson(Person personToEdit) {
+        List<Tag> editedTags = new ArrayList<>();
+        for (Tag tag : personToEdit.getTags()) {
+            if (!tags.contains(tag)) {
+                editedTags.add(tag);
+            }
+        }
+        if (newTag != null) {
+            editedTags.add(newTag);
+        }
+        return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+                personToEdit.getAddress(), TagSet.of(editedTags));
+    }
+
+    /**
+     * Returns the given tags in the order of their names, for messages.
+     */
+    private static String describe(Set<Tag> tags) {
+        return TagSet.of(tags).stream().map(Tag::toString).collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagCommand // instanceof handles nulls
+                && action == ((TagCommand) other).action
+                && tags.equals(((TagCommand) other).tags)
+                && Objects.equals(newTag, ((TagCommand) other).newTag)); // state check
+    }
+}
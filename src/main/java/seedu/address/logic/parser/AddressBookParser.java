@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -15,18 +16,45 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStatistics;
 
 /**
  * Parses user input.
  */
 public class AddressBookParser {
 
+    /**
+     * The command words of all commands, which are used for completion.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD, LookupCommand.COMMAND_WORD,
+            QueryCommand.COMMAND_WORD, TagCommand.COMMAND_WORD, SortCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandStatistics statistics;
+
+    public AddressBookParser() {
+        this(new CommandStatistics());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands report on {@code statistics}.
+     */
+    public AddressBookParser(CommandStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -62,12 +90,27 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case LookupCommand.COMMAND_WORD:
+            return new LookupCommandParser().parse(arguments);
+
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
+        case TagCommand.COMMAND_WORD:
+            return new TagCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(statistics);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
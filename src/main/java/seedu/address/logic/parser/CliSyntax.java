@@ -11,5 +11,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_MODE = new Prefix("m/");
+
+    /* Keyword definitions */
+    /** Used in place of an index to refer to every person in the displayed person list. */
+    public static final String KEYWORD_ALL = "all";
 
 }
@@ -1,8 +1,13 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -13,21 +18,50 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_MODE = "Unknown find mode: %1$s. Modes: exact, fuzzy, phonetic";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * The mode may be given before or after the keywords, e.g. {@code m/fuzzy alice} or {@code alice m/fuzzy}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODE);
+        List<String> nameKeywords = new ArrayList<>(splitWords(argMultimap.getPreamble()));
+        FindCommand.Mode mode = FindCommand.Mode.EXACT;
+
+        Optional<String> modeArgs = argMultimap.getValue(PREFIX_MODE);
+        if (modeArgs.isPresent()) {
+            List<String> modeWords = splitWords(modeArgs.get());
+            if (modeWords.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            mode = parseMode(modeWords.get(0));
+            // the keywords that follow the mode
+            nameKeywords.addAll(modeWords.subList(1, modeWords.size()));
+        }
+
+        if (nameKeywords.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords), mode);
+    }
+
+    private static FindCommand.Mode parseMode(String mode) throws ParseException {
+        try {
+            return FindCommand.Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_MODE, mode));
+        }
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static List<String> splitWords(String text) {
+        String trimmedText = text.trim();
+        return trimmedText.isEmpty() ? List.of() : Arrays.asList(trimmedText.split("\\s+"));
     }
 
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.PhoneIndex;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    public static final String WILDCARD = "*";
+
+    /** Characters that are commonly used to format phone numbers, which are ignored. */
+    private static final String FORMATTING_CHARACTERS = "[\\s()+\\-.]";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        String number = args.trim();
+        boolean isSuffix = number.startsWith(WILDCARD);
+        boolean isPrefix = number.endsWith(WILDCARD) && number.length() > 1;
+        if (isSuffix) {
+            number = number.substring(1);
+        }
+        if (isPrefix) {
+            number = number.substring(0, number.length() - 1);
+        }
+
+        String digits = number.replaceAll(FORMATTING_CHARACTERS, "");
+        if ((isSuffix && isPrefix) || !digits.matches("\\d+")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+
+        if (isSuffix) {
+            return new LookupCommand(digits, PhoneIndex.Match.SUFFIX);
+        }
+        return new LookupCommand(digits, isPrefix ? PhoneIndex.Match.PREFIX : PhoneIndex.Match.EXACT);
+    }
+
+}
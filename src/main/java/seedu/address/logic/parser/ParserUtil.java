@@ -2,11 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -14,6 +16,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -35,6 +38,32 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a comma-separated list of one-based indexes and ranges of indexes such as
+     * {@code 2-5}, into {@code IndexRange}s, in the order given. Leading and trailing whitespaces of each index
+     * will be trimmed.
+     * @throws ParseException if any index is invalid, or any range ends before it starts.
+     */
+    public static List<IndexRange> parseIndexRanges(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        List<IndexRange> ranges = new ArrayList<>();
+        for (String part : oneBasedIndexes.split(",", -1)) {
+            int separator = part.indexOf('-');
+            if (separator == -1) {
+                ranges.add(IndexRange.of(parseIndex(part)));
+                continue;
+            }
+
+            Index start = parseIndex(part.substring(0, separator));
+            Index end = parseIndex(part.substring(separator + 1));
+            if (end.getZeroBased() < start.getZeroBased()) {
+                throw new ParseException(IndexRange.MESSAGE_CONSTRAINTS);
+            }
+            ranges.add(new IndexRange(start, end));
+        }
+        return ranges;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -107,7 +136,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -115,10 +144,10 @@ public class ParserUtil {
      */
     public static Set<Tag> parseTags(Collection<String> tags) throws ParseException {
         requireNonNull(tags);
-        final Set<Tag> tagSet = new HashSet<>();
+        final List<Tag> tagList = new ArrayList<>();
         for (String tagName : tags) {
-            tagSet.add(parseTag(tagName));
+            tagList.add(parseTag(tagName));
         }
-        return tagSet;
+        return TagSet.of(tagList);
     }
 }
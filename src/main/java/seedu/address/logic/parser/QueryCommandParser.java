@@ -0,0 +1,192 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * <p>
+ * The conditions are parsed with the usual precedence: {@code not} binds tightest, then {@code and}, which may be
+ * left out between conditions, then {@code or}.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected \"%1$s\" in query";
+    public static final String MESSAGE_UNEXPECTED_END = "Query ended unexpectedly";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Missing closing quote in query";
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final char QUOTE = '"';
+
+    private static final Map<Prefix, FieldQuery.Field> FIELDS = Map.of(PREFIX_NAME, FieldQuery.Field.NAME,
+            PREFIX_PHONE, FieldQuery.Field.PHONE, PREFIX_EMAIL, FieldQuery.Field.EMAIL,
+            PREFIX_ADDRESS, FieldQuery.Field.ADDRESS, PREFIX_TAG, FieldQuery.Field.TAG);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        List<String> tokens = tokenize(args);
+        boolean isExplain = !tokens.isEmpty() && tokens.get(0).equalsIgnoreCase(QueryCommand.EXPLAIN_WORD);
+        if (isExplain) {
+            tokens.remove(0);
+        }
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        TokenReader reader = new TokenReader(tokens);
+        Query query = reader.readOr();
+        if (reader.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, reader.peek()));
+        }
+        return new QueryCommand(query, isExplain);
+    }
+
+    /**
+     * Splits {@code args} into brackets and words, keeping quoted text, which may contain spaces, within its word.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char character = args.charAt(i);
+            if (Character.isWhitespace(character)) {
+                i++;
+                continue;
+            }
+            if (character == '(' || character == ')') {
+                tokens.add(String.valueOf(character));
+                i++;
+                continue;
+            }
+
+            StringBuilder token = new StringBuilder();
+            while (i < args.length() && !Character.isWhitespace(args.charAt(i))
+                    && args.charAt(i) != '(' && args.charAt(i) != ')') {
+                if (args.charAt(i) == QUOTE) {
+                    int closingQuote = args.indexOf(QUOTE, i + 1);
+                    if (closingQuote == -1) {
+                        throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+                    }
+                    token.append(args, i, closingQuote + 1);
+                    i = closingQuote + 1;
+                } else {
+                    token.append(args.charAt(i));
+                    i++;
+                }
+            }
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Parses {@code token}, such as {@code n/alice} or {@code a/"clementi ave"}, into a condition on one field.
+     */
+    private static Query parseCondition(String token) throws ParseException {
+        for (Map.Entry<Prefix, FieldQuery.Field> field : FIELDS.entrySet()) {
+            String prefix = field.getKey().getPrefix();
+            if (!token.startsWith(prefix)) {
+                continue;
+            }
+            String value = token.substring(prefix.length()).replace(String.valueOf(QUOTE), "");
+            if (!FieldQuery.isValidValue(field.getValue(), value)) {
+                throw new ParseException(FieldQuery.MESSAGE_CONSTRAINTS);
+            }
+            return new FieldQuery(field.getValue(), value.trim());
+        }
+        throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+    }
+
+    /**
+     * Reads conditions and operators from a list of tokens by recursive descent.
+     */
+    private static class TokenReader {
+        private final List<String> tokens;
+        private int position;
+
+        private TokenReader(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+
+        private boolean isNext(String keyword) {
+            return hasNext() && peek().equalsIgnoreCase(keyword);
+        }
+
+        private String next() throws ParseException {
+            if (!hasNext()) {
+                throw new ParseException(MESSAGE_UNEXPECTED_END);
+            }
+            return tokens.get(position++);
+        }
+
+        private Query readOr() throws ParseException {
+            List<Query> queries = new ArrayList<>();
+            queries.add(readAnd());
+            while (isNext(OR)) {
+                next();
+                queries.add(readAnd());
+            }
+            return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+        }
+
+        private Query readAnd() throws ParseException {
+            List<Query> queries = new ArrayList<>();
+            queries.add(readNot());
+            while (hasNext() && !isNext(OR) && !isNext(CLOSE_BRACKET)) {
+                if (isNext(AND)) {
+                    next();
+                }
+                queries.add(readNot());
+            }
+            return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+        }
+
+        private Query readNot() throws ParseException {
+            if (isNext(NOT)) {
+                next();
+                return new NotQuery(readNot());
+            }
+            String token = next();
+            if (token.equals(OPEN_BRACKET)) {
+                Query query = readOr();
+                if (!next().equals(CLOSE_BRACKET)) {
+                    throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position - 1)));
+                }
+                return query;
+            }
+            return parseCondition(token);
+        }
+    }
+}
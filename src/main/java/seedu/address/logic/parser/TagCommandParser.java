@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.TagCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new TagCommand object
+ */
+public class TagCommandParser implements Parser<TagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TagCommand
+     * and returns a TagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TagCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        List<String> words = trimmedArgs.isEmpty() ? List.of() : Arrays.asList(trimmedArgs.split("\\s+"));
+        if (words.size() < 2) {
+            throw invalidFormat();
+        }
+
+        String actionWord = words.get(0);
+        List<String> tagNames = words.subList(1, words.size());
+        if (actionWord.equalsIgnoreCase(Action.RENAME.getWord()) && tagNames.size() == 2) {
+            return new TagCommand(Action.RENAME, ParserUtil.parseTags(tagNames.subList(0, 1)),
+                    ParserUtil.parseTag(tagNames.get(1)));
+        }
+        int intoPosition = tagNames.size() - 2;
+        if (actionWord.equalsIgnoreCase(Action.MERGE.getWord()) && intoPosition > 0
+                && tagNames.get(intoPosition).equalsIgnoreCase(TagCommand.INTO_WORD)) {
+            return new TagCommand(Action.MERGE, ParserUtil.parseTags(tagNames.subList(0, intoPosition)),
+                    ParserUtil.parseTag(tagNames.get(intoPosition + 1)));
+        }
+        if (actionWord.equalsIgnoreCase(Action.DELETE.getWord())) {
+            return new TagCommand(Action.DELETE, ParserUtil.parseTags(tagNames), null);
+        }
+        throw invalidFormat();
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.logic.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long each phase of command handling takes, per command word, together with overall counters.
+ * Safe to read from other threads (e.g. JMX or a periodic logger) while commands are being recorded.
+ */
+public class CommandStatistics implements CommandStatisticsMXBean {
+
+    /**
+     * The phases of handling a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, PERSIST
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentSkipListMap<>();
+    private final AtomicLong commandCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Records that {@code phase} of a command with the given {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void recordPhase(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        getHistogram(commandWord, phase).record(nanos);
+    }
+
+    /**
+     * Records that a command was handled, successfully or not.
+     */
+    public void recordCommand(boolean isSuccessful) {
+        commandCount.incrementAndGet();
+        if (!isSuccessful) {
+            failureCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that {@code bytes} bytes were written when saving the address book.
+     */
+    public void recordBytesSaved(long bytes) {
+        bytesSaved.addAndGet(bytes);
+    }
+
+    /**
+     * Returns the histogram of {@code phase} for the given {@code commandWord}, creating it if necessary.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        return histograms.computeIfAbsent(commandWord, unused -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, unused -> new LatencyHistogram());
+    }
+
+    @Override
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @Override
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    @Override
+    public double getMeanMillis(String commandWord, String phase) {
+        Optional<Phase> parsedPhase = parsePhase(phase);
+        if (commandWord == null || parsedPhase.isEmpty()) {
+            return Double.NaN;
+        }
+        Map<Phase, LatencyHistogram> phases = histograms.get(commandWord);
+        if (phases == null) {
+            return 0;
+        }
+        LatencyHistogram histogram = phases.get(parsedPhase.get());
+        return histogram == null ? 0 : histogram.getMeanMillis();
+    }
+
+    /**
+     * Returns the phase named {@code name}, ignoring case, or an empty Optional if there is none.
+     */
+    private static Optional<Phase> parsePhase(String name) {
+        for (Phase phase : Phase.values()) {
+            if (phase.name().equalsIgnoreCase(name)) {
+                return Optional.of(phase);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a one-line summary of the overall counters.
+     */
+    public String getSummary() {
+        return String.format("%d commands (%d failed), %d bytes saved", getCommandCount(), getFailureCount(),
+                getBytesSaved());
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder builder = new StringBuilder(getSummary());
+        histograms.forEach((commandWord, phases) -> {
+            builder.append("\n").append(commandWord).append(":");
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = phases.get(phase);
+                if (histogram != null) {
+                    builder.append("\n  ").append(phase.name().toLowerCase()).append(" ").append(histogram);
+                }
+            }
+        });
+        return builder.toString();
+    }
+}
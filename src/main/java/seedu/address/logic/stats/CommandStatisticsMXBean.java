@@ -0,0 +1,25 @@
+package seedu.address.logic.stats;
+
+/**
+ * Management interface through which {@link CommandStatistics} is exposed over JMX.
+ */
+public interface CommandStatisticsMXBean {
+
+    long getCommandCount();
+
+    long getFailureCount();
+
+    long getBytesSaved();
+
+    /**
+     * Returns the multi-line report that is also shown by the {@code stats} command.
+     */
+    String getReport();
+
+    /**
+     * Returns the mean latency, in milliseconds, of {@code phase} (one of {@code PARSE}, {@code EXECUTE} or
+     * {@code PERSIST}, ignoring case) for commands with the given {@code commandWord}, or 0 if there are no
+     * samples. Returns {@code NaN} if {@code phase} is not one of these or {@code commandWord} is null.
+     */
+    double getMeanMillis(String commandWord, String phase);
+}
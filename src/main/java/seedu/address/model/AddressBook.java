@@ -2,9 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -15,6 +19,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final List<PersonIndex> indexes = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +50,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        indexes.forEach(this::rebuild);
     }
 
     /**
@@ -72,6 +78,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexes.forEach(index -> index.add(p));
+    }
+
+    /**
+     * Adds all persons in {@code persons} to the address book.
+     * The persons must not already exist in the address book, and must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        for (PersonIndex index : indexes) {
+            persons.forEach(index::add);
+        }
     }
 
     /**
@@ -83,6 +101,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        for (PersonIndex index : indexes) {
+            index.remove(target);
+            index.add(editedPerson);
+        }
+    }
+
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the edited person it maps to, as a single
+     * change of the person list.
+     * The persons to replace must exist in the address book, and each edited person must have the same identity as
+     * the person it replaces.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        persons.setPersons(editedPersons);
+        for (PersonIndex index : indexes) {
+            editedPersons.forEach((target, editedPerson) -> {
+                index.remove(target);
+                index.add(editedPerson);
+            });
+        }
     }
 
     /**
@@ -91,6 +129,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        indexes.forEach(index -> index.remove(key));
+    }
+
+    /**
+     * Removes all persons in {@code keys} from this {@code AddressBook}, as a single change of the person list.
+     * The persons must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        for (PersonIndex index : indexes) {
+            keys.forEach(index::remove);
+        }
+    }
+
+    //// index operations
+
+    /**
+     * Adds {@code index}, which is populated with the current persons and then kept up to date
+     * as persons are added, edited and removed.
+     */
+    public void addIndex(PersonIndex index) {
+        requireNonNull(index);
+        indexes.add(index);
+        rebuild(index);
+    }
+
+    private void rebuild(PersonIndex index) {
+        index.clear();
+        persons.forEach(index::add);
     }
 
     //// util methods
@@ -0,0 +1,191 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An unmodifiable address book that stores its persons column by column rather than as objects.
+ * <p>
+ * Each field is a column of integer IDs into a pool of the distinct values of that field, whose text is packed
+ * into a single byte array, and each person's tags are an ID into a pool of the distinct tag sets. A person
+ * therefore costs a few integers plus the bytes of the values that no other person shares, instead of a dozen
+ * objects. {@code Person} objects are only created when they are read, for example when the UI displays them, and
+ * are not kept, so they should not be compared by identity.
+ * <p>
+ * This is experimental and not used by the app yet: the model keeps {@code Person} objects, which its indexes refer
+ * to, and a read-only copy of them only costs a reference per person while they are shared.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private final int size;
+    private final StringColumn names;
+    private final StringColumn phones;
+    private final StringColumn emails;
+    private final StringColumn addresses;
+    private final int[] tagSetIds;
+    private final TagSet[] tagSets;
+
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates a {@code ColumnarAddressBook} with the persons in {@code toBeCopied}.
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<Person> persons = toBeCopied.getPersonList();
+        size = persons.size();
+
+        StringColumn.Builder nameBuilder = new StringColumn.Builder(size);
+        StringColumn.Builder phoneBuilder = new StringColumn.Builder(size);
+        StringColumn.Builder emailBuilder = new StringColumn.Builder(size);
+        StringColumn.Builder addressBuilder = new StringColumn.Builder(size);
+        Map<TagSet, Integer> tagSetIdsByTagSet = new HashMap<>();
+        tagSetIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            Person person = persons.get(i);
+            nameBuilder.add(person.getName().fullName);
+            phoneBuilder.add(person.getPhone().value);
+            emailBuilder.add(person.getEmail().value);
+            addressBuilder.add(person.getAddress().value);
+            tagSetIds[i] = tagSetIdsByTagSet.computeIfAbsent(TagSet.of(person.getTags()),
+                    unused -> tagSetIdsByTagSet.size());
+        }
+
+        names = nameBuilder.build();
+        phones = phoneBuilder.build();
+        emails = emailBuilder.build();
+        addresses = addressBuilder.build();
+        tagSets = new TagSet[tagSetIdsByTagSet.size()];
+        tagSetIdsByTagSet.forEach((tagSet, id) -> tagSets[id] = tagSet);
+    }
+
+    /**
+     * Returns the number of persons.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new {@code Person} with the fields of the person at the zero-based {@code index}.
+     */
+    public Person getPerson(int index) {
+        Objects.checkIndex(index, size);
+        return new Person(new Name(names.get(index)), new Phone(phones.get(index)), new Email(emails.get(index)),
+                new Address(addresses.get(index)), tagSets[tagSetIds[index]]);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons list, which creates each person as it is read.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonView()));
+        }
+        return personList;
+    }
+
+    @Override
+    public String toString() {
+        return size + " persons";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ColumnarAddressBook // instanceof handles nulls
+                && getPersonList().equals(((ColumnarAddressBook) other).getPersonList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return getPersonList().hashCode();
+    }
+
+    /**
+     * The persons of this address book as a list.
+     */
+    private class PersonView extends AbstractList<Person> implements RandomAccess {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A column of strings, stored as one ID per row into a pool of the distinct strings, which are encoded in UTF-8
+     * one after another in a single byte array.
+     */
+    private static class StringColumn {
+        private final int[] valueIds;
+        private final int[] valueStarts;
+        private final byte[] bytes;
+
+        private StringColumn(int[] valueIds, int[] valueStarts, byte[] bytes) {
+            this.valueIds = valueIds;
+            this.valueStarts = valueStarts;
+            this.bytes = bytes;
+        }
+
+        String get(int row) {
+            int id = valueIds[row];
+            return new String(bytes, valueStarts[id], valueStarts[id + 1] - valueStarts[id], StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Builds a {@code StringColumn} row by row.
+         */
+        private static class Builder {
+            private final Map<String, Integer> idsByValue = new HashMap<>();
+            private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            private final int[] valueIds;
+            private int[] valueStarts = new int[16];
+            private int rowCount;
+
+            Builder(int expectedRows) {
+                valueIds = new int[expectedRows];
+            }
+
+            void add(String value) {
+                valueIds[rowCount++] = idsByValue.computeIfAbsent(value, unused -> {
+                    int id = idsByValue.size();
+                    if (id + 1 == valueStarts.length) {
+                        valueStarts = Arrays.copyOf(valueStarts, valueStarts.length * 2);
+                    }
+                    bytes.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                    valueStarts[id + 1] = bytes.size();
+                    return id;
+                });
+            }
+
+            StringColumn build() {
+                return new StringColumn(valueIds, Arrays.copyOf(valueStarts, idsByValue.size() + 1),
+                        bytes.toByteArray());
+            }
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.exceptions.PageTokenNotFoundException;
+import seedu.address.model.index.PhoneIndex;
+import seedu.address.model.index.SortKeyIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -52,8 +63,15 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a point-in-time copy of the address book.
+     * Unlike {@link #getAddressBook()}, the copy is safe to read from any thread while commands are being executed.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
+     * Safe to call from any thread.
      */
     boolean hasPerson(Person person);
 
@@ -63,12 +81,24 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all the given persons at once, as a single change of the person list.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons, for instance as they are read from storage.
+     * {@code persons} must not contain duplicates, nor persons that already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,12 +106,115 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the edited person it maps to, at once, as a
+     * single change of the person list.
+     * The persons to replace must exist in the address book, and each edited person must have the same identity as
+     * the person it replaces.
+     */
+    void setPersons(Map<Person, Person> editedPersons);
+
+    /**
+     * Returns at most {@code limit} words of person names that start with {@code prefix}, the most common first.
+     */
+    List<String> completeNameWord(String prefix, int limit);
+
+    /**
+     * Returns at most {@code limit} tag names that start with {@code prefix}, the most used first.
+     */
+    List<String> completeTagName(String prefix, int limit);
+
+    /**
+     * Returns the persons whose name contains any of {@code words} as a whole word, ignoring case.
+     * This is the set of persons matched by a {@code NameContainsKeywordsPredicate} over {@code words},
+     * but is looked up in an index instead of testing every person.
+     */
+    Set<Person> findPersonsByNameWords(List<String> words);
+
+    /**
+     * Returns the persons whose name contains a word spelt similarly to any of {@code keywords}, ignoring case,
+     * the most similar first.
+     */
+    List<Person> findPersonsByFuzzyName(List<String> keywords);
+
+    /**
+     * Returns the persons whose name contains a word that sounds like any of {@code keywords}.
+     */
+    Set<Person> findPersonsByPhoneticName(List<String> keywords);
+
+    /**
+     * Returns the persons whose phone number matches {@code digits} in the way given by {@code match}.
+     * @throws IllegalArgumentException if {@code digits} contains a character that is not a decimal digit.
+     */
+    Set<Person> findPersonsByPhone(String digits, PhoneIndex.Match match);
+
+    /**
+     * Returns the persons with any of {@code tags}.
+     */
+    Set<Person> findPersonsByAnyTag(Collection<Tag> tags);
+
+    /**
+     * Returns the persons that satisfy {@code query}, found with the help of the indexes where possible.
+     */
+    Set<Person> findPersons(Query query);
+
+    /**
+     * Returns a description of how the persons that satisfy {@code query} would be found, with the estimated
+     * number of persons found by each step.
+     */
+    String explainQuery(Query query);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the first {@code pageSize} persons of a snapshot of the filtered person list, with a token for the
+     * next page if there are more.
+     * Unlike {@link #getFilteredPersonList()}, only one page of the persons is handed out at a time.
+     *
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    PersonPage getFirstPersonPage(int pageSize);
+
+    /**
+     * Returns the page of at most {@code pageSize} persons named by {@code pageToken}, which was returned with the
+     * page before it. The page is taken from the same snapshot as the first page, so changes to the address book
+     * since do not shift it. Safe to call from any thread.
+     *
+     * @throws PageTokenNotFoundException if the token is not valid, or its snapshot is no longer kept.
+     */
+    PersonPage getPersonPage(String pageToken, int pageSize);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * filtered persons by {@code comparator}. The order is reset to the sort order by the next call to
+     * {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Returns the predicate the filtered person list was last filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the comparator the filtered person list was last ordered by, or an empty Optional if it is in the sort
+     * order of {@link #sortPersonList(Optional)}.
+     */
+    Optional<Comparator<Person>> getFilteredPersonListComparator();
+
+    /**
+     * Orders the filtered person list by {@code field} from now on, or in the order of the address book if
+     * {@code field} is empty. The order is kept as persons are added, edited and removed, and as the list is
+     * filtered again.
+     * @throws NullPointerException if {@code field} is null.
+     */
+    void sortPersonList(Optional<SortKeyIndex.Field> field);
 }
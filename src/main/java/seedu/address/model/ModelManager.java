@@ -4,17 +4,46 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.FilterUpdateEvent;
+import seedu.address.commons.util.ParallelScan;
+import seedu.address.model.index.CompletionIndex;
+import seedu.address.model.index.FuzzyNameIndex;
+import seedu.address.model.index.NameWordIndex;
+import seedu.address.model.index.PhoneIndex;
+import seedu.address.model.index.PhoneticNameIndex;
+import seedu.address.model.index.SortKeyIndex;
+import seedu.address.model.index.TagIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSetPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * The address book data is guarded by a {@link StampedLock}: mutations take the write lock, while queries from other
+ * threads (e.g. exporters or indexers) take the read lock, or an optimistic read for cheap lookups such as
+ * {@link #hasPerson(Person)}. There is a single writer, which is the JavaFX application thread when the GUI is
+ * running, so change events from the person list always reach the {@code FilteredList} on that thread.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -22,6 +51,22 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> displayedPersons;
+    private final StampedLock lock = new StampedLock();
+    private final CompletionIndex completionIndex = new CompletionIndex();
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex(nameWordIndex);
+    private final PhoneticNameIndex phoneticNameIndex = new PhoneticNameIndex();
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final SortKeyIndex sortKeyIndex = new SortKeyIndex();
+    private final QueryPlanner queryPlanner;
+    private final PersonPager personPager = new PersonPager();
+    /** The order of the displayed persons when no other order is asked for, or null for the address book order. */
+    private Comparator<Person> sortOrder;
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    /** The order of the displayed persons asked for with the filter, or null for the sort order. */
+    private Comparator<Person> filterComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,8 +78,17 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        this.addressBook.addIndex(completionIndex);
+        this.addressBook.addIndex(nameWordIndex);
+        this.addressBook.addIndex(fuzzyNameIndex);
+        this.addressBook.addIndex(phoneticNameIndex);
+        this.addressBook.addIndex(phoneIndex);
+        this.addressBook.addIndex(tagIndex);
+        this.addressBook.addIndex(sortKeyIndex);
+        queryPlanner = new QueryPlanner(this.addressBook.getPersonList(), nameWordIndex, phoneIndex, tagIndex);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        displayedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -80,7 +134,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        write(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -88,28 +142,157 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return read(() -> {
+            ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            return () -> persons;
+        });
+    }
+
+    @Override
+    public List<String> completeNameWord(String prefix, int limit) {
+        requireNonNull(prefix);
+        return read(() -> completionIndex.completeNameWord(prefix, limit));
+    }
+
+    @Override
+    public List<String> completeTagName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return read(() -> completionIndex.completeTagName(prefix, limit));
+    }
+
+    @Override
+    public Set<Person> findPersonsByNameWords(List<String> words) {
+        requireNonNull(words);
+        return read(() -> nameWordIndex.find(words));
+    }
+
+    @Override
+    public List<Person> findPersonsByFuzzyName(List<String> keywords) {
+        requireNonNull(keywords);
+        return read(() -> fuzzyNameIndex.find(keywords));
+    }
+
+    @Override
+    public Set<Person> findPersonsByPhoneticName(List<String> keywords) {
+        requireNonNull(keywords);
+        return read(() -> phoneticNameIndex.find(keywords));
+    }
+
+    @Override
+    public Set<Person> findPersonsByPhone(String digits, PhoneIndex.Match match) {
+        requireAllNonNull(digits, match);
+        return read(() -> phoneIndex.find(digits, match));
+    }
+
+    @Override
+    public Set<Person> findPersonsByAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return read(() -> tagIndex.findAny(tags));
+    }
+
+    @Override
+    public Set<Person> findPersons(Query query) {
+        requireNonNull(query);
+        return read(() -> queryPlanner.plan(query).execute());
+    }
+
+    @Override
+    public String explainQuery(Query query) {
+        requireNonNull(query);
+        return read(() -> queryPlanner.plan(query).explain());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return optimisticRead(() -> addressBook.hasPerson(person));
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        write(() -> addressBook.removePerson(target));
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        write(() -> addressBook.removePersons(targets));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        write(() -> addressBook.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        write(() -> addressBook.addPersons(persons));
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        write(() -> addressBook.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        write(() -> addressBook.setPersons(editedPersons));
+    }
+
+    //=========== Locking ====================================================================================
+
+    /**
+     * Runs {@code mutation} while holding the write lock.
+     */
+    private void write(Runnable mutation) {
+        long stamp = lock.writeLock();
+        try {
+            mutation.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code query} computed while holding the read lock.
+     */
+    private <T> T read(Supplier<T> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code query}, first attempted without locking and validated afterwards.
+     * If a writer intervened, the query is repeated under the read lock. Any exception thrown by a racing
+     * optimistic attempt is discarded, as its result would have been discarded anyway.
+     */
+    private <T> T optimisticRead(Supplier<T> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(query);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -120,13 +303,118 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
+    }
+
+    @Override
+    public PersonPage getFirstPersonPage(int pageSize) {
+        return read(() -> personPager.start(displayedPersons, pageSize));
+    }
+
+    @Override
+    public PersonPage getPersonPage(String pageToken, int pageSize) {
+        return personPager.next(pageToken, pageSize);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setFilter(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        setFilter(predicate, comparator);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filterPredicate;
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getFilteredPersonListComparator() {
+        return Optional.ofNullable(filterComparator);
+    }
+
+    @Override
+    public void sortPersonList(Optional<SortKeyIndex.Field> field) {
+        requireNonNull(field);
+        write(() -> sortKeyIndex.setField(field));
+        sortOrder = field.isPresent() ? sortKeyIndex.getComparator() : null;
+        displayedPersons.setComparator(sortOrder);
+    }
+
+    /**
+     * Filters the person list by {@code predicate} and orders it by {@code comparator}, or in the sort order of
+     * {@link #sortPersonList(Optional)} if {@code comparator} is null.
+     * <p>
+     * A large person list is first scanned in parallel by {@link ParallelScan}, so that the {@code FilteredList}
+     * only looks up the precomputed matches on this thread instead of testing every person itself. A
+     * {@link PersonSetPredicate} is already such a lookup, so the list is filtered by it directly.
+     */
+    private void setFilter(Predicate<Person> predicate, Comparator<Person> comparator) {
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        List<Person> persons = addressBook.getPersonList();
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || predicate instanceof PersonSetPredicate
+                || persons.size() < ParallelScan.SEQUENTIAL_THRESHOLD) {
+            filteredPersons.setPredicate(predicate);
+        } else {
+            ScannedPredicate scannedPredicate = new ScannedPredicate(predicate,
+                    read(() -> ScannedPredicate.scan(persons, predicate)));
+            filteredPersons.setPredicate(scannedPredicate);
+            scannedPredicate.release();
+        }
+        displayedPersons.setComparator(comparator != null ? comparator : sortOrder);
+        filterPredicate = predicate;
+        filterComparator = comparator;
+        event.end();
+        if (event.shouldCommit()) {
+            event.listSize = filteredPersons.getSource().size();
+            event.filteredSize = filteredPersons.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * A predicate that answers from the results of a scan of the person list while the {@code FilteredList} is
+     * filtered, and from the predicate it was scanned with once it is released, so that persons added or edited
+     * later are still tested.
+     */
+    private static class ScannedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> matches;
+
+        ScannedPredicate(Predicate<Person> predicate, Set<Person> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        /**
+         * Returns the persons in {@code persons} that match {@code predicate}.
+         */
+        static Set<Person> scan(List<Person> persons, Predicate<Person> predicate) {
+            int[] positions = ParallelScan.findMatches(persons, predicate);
+            Set<Person> matches = new HashSet<>(positions.length * 2);
+            for (int position : positions) {
+                matches.add(persons.get(position));
+            }
+            return matches;
+        }
+
+        /**
+         * Stops answering from the results of the scan.
+         */
+        void release() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches != null ? matches.contains(person) : predicate.test(person);
+        }
     }
 
     @Override
@@ -145,7 +433,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons);
+                && displayedPersons.equals(other.displayedPersons);
     }
 
 }
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A page of a snapshot of the filtered person list.
+ * Guarantees: immutable.
+ */
+public class PersonPage {
+
+    private final List<Person> persons;
+    private final int offset;
+    private final int total;
+    private final String nextPageToken;
+
+    /**
+     * Creates a page of {@code persons}, which start at the zero-based {@code offset} of a snapshot of {@code total}
+     * persons. {@code nextPageToken} continues the snapshot after this page, and is null if this is the last page.
+     */
+    public PersonPage(List<Person> persons, int offset, int total, String nextPageToken) {
+        requireNonNull(persons);
+        this.persons = List.copyOf(persons);
+        this.offset = offset;
+        this.total = total;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the token of the next page, or an empty Optional if this is the last page.
+     */
+    public Optional<String> getNextPageToken() {
+        return Optional.ofNullable(nextPageToken);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonPage // instanceof handles nulls
+                && persons.equals(((PersonPage) other).persons)
+                && offset == ((PersonPage) other).offset
+                && total == ((PersonPage) other).total
+                && Objects.equals(nextPageToken, ((PersonPage) other).nextPageToken)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, offset, total, nextPageToken);
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons from " + offset + " of " + total;
+    }
+}
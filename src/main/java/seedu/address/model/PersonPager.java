@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import seedu.address.model.exceptions.PageTokenNotFoundException;
+import seedu.address.model.person.Person;
+
+/**
+ * Serves lists of persons page by page, each from a snapshot taken when its first page was asked for.
+ * <p>
+ * A snapshot only holds references to the persons, which are immutable, and is named by a random id. The token of
+ * a page is the id of its snapshot and the position the page starts at, so asking for the same token again returns
+ * the same page however the person list has changed since. Only the {@value #MAX_SNAPSHOTS} most recently read
+ * snapshots are kept; the tokens of older ones are no longer found.
+ */
+class PersonPager {
+
+    static final int MAX_SNAPSHOTS = 16;
+
+    private static final char TOKEN_SEPARATOR = '-';
+
+    private final Map<String, Person[]> snapshots = new LinkedHashMap<>(MAX_SNAPSHOTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Person[]> eldest) {
+            return size() > MAX_SNAPSHOTS;
+        }
+    };
+
+    /**
+     * Takes a snapshot of {@code persons} and returns its first page of at most {@code pageSize} persons.
+     * No snapshot is kept if all of {@code persons} fit in the first page.
+     */
+    synchronized PersonPage start(List<Person> persons, int pageSize) {
+        requireNonNull(persons);
+        checkArgument(pageSize > 0, "Page size must be positive");
+        Person[] snapshot = persons.toArray(new Person[0]);
+        if (snapshot.length <= pageSize) {
+            return new PersonPage(Arrays.asList(snapshot), 0, snapshot.length, null);
+        }
+
+        String id;
+        do {
+            id = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        } while (snapshots.containsKey(id));
+        snapshots.put(id, snapshot);
+        return getPage(id, snapshot, 0, pageSize);
+    }
+
+    /**
+     * Returns the page of at most {@code pageSize} persons that {@code pageToken} names.
+     *
+     * @throws PageTokenNotFoundException if the token is malformed or its snapshot is no longer kept.
+     */
+    synchronized PersonPage next(String pageToken, int pageSize) {
+        requireNonNull(pageToken);
+        checkArgument(pageSize > 0, "Page size must be positive");
+        int separator = pageToken.indexOf(TOKEN_SEPARATOR);
+        if (separator < 0) {
+            throw new PageTokenNotFoundException();
+        }
+        Person[] snapshot = snapshots.get(pageToken.substring(0, separator));
+        int offset;
+        try {
+            offset = Integer.parseInt(pageToken.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new PageTokenNotFoundException();
+        }
+        if (snapshot == null || offset <= 0 || offset >= snapshot.length) {
+            throw new PageTokenNotFoundException();
+        }
+        return getPage(pageToken.substring(0, separator), snapshot, offset, pageSize);
+    }
+
+    private static PersonPage getPage(String id, Person[] snapshot, int offset, int pageSize) {
+        int end = (int) Math.min((long) offset + pageSize, snapshot.length);
+        String nextPageToken = end < snapshot.length ? id + TOKEN_SEPARATOR + end : null;
+        return new PersonPage(Arrays.asList(snapshot).subList(offset, end), offset, snapshot.length, nextPageToken);
+    }
+}
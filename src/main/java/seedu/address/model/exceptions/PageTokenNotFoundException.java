@@ -0,0 +1,6 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that a page token is malformed, or that the snapshot it continues has been discarded.
+ */
+public class PageTokenNotFoundException extends RuntimeException {}
@@ -0,0 +1,59 @@
+package seedu.address.model.index;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the words of person names and the tag names for completion.
+ */
+public class CompletionIndex implements PersonIndex {
+
+    private final PrefixTrie nameWords = new PrefixTrie();
+    private final PrefixTrie tagNames = new PrefixTrie();
+
+    @Override
+    public void add(Person person) {
+        for (String word : getNameWords(person)) {
+            nameWords.add(word);
+        }
+        for (Tag tag : person.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (String word : getNameWords(person)) {
+            nameWords.remove(word);
+        }
+        for (Tag tag : person.getTags()) {
+            tagNames.remove(tag.tagName);
+        }
+    }
+
+    @Override
+    public void clear() {
+        nameWords.clear();
+        tagNames.clear();
+    }
+
+    /**
+     * Returns at most {@code limit} words of person names that start with {@code prefix}, the most common first.
+     */
+    public List<String> completeNameWord(String prefix, int limit) {
+        return nameWords.complete(prefix, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} tag names that start with {@code prefix}, the most used first.
+     */
+    public List<String> completeTagName(String prefix, int limit) {
+        return tagNames.complete(prefix, limit);
+    }
+
+    private static String[] getNameWords(Person person) {
+        return person.getName().fullName.split("\\s+");
+    }
+}
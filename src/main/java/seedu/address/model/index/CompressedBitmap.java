@@ -0,0 +1,432 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative integers, in the style of a roaring bitmap.
+ * <p>
+ * The integers are split by their upper 16 bits into chunks of 65536. Each chunk is stored as a sorted array of its
+ * lower 16 bits while it holds at most {@value #MAX_ARRAY_SIZE} integers, and as a plain bitmap of 1024 words once
+ * it holds more, so sparse and dense sets both stay small. A bitmap only turns back into an array once it holds at
+ * most {@value #MIN_BITMAP_SIZE} integers, so that a chunk that grows and shrinks around the limit is not converted
+ * every time. Set operations work chunk by chunk: on sorted arrays where both chunks are arrays, and on words
+ * otherwise.
+ */
+public class CompressedBitmap {
+
+    /** The most integers a chunk stores as a sorted array, beyond which a bitmap is smaller. */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    /** A bitmap chunk is turned back into a sorted array once it holds no more integers than this. */
+    static final int MIN_BITMAP_SIZE = MAX_ARRAY_SIZE / 2;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / Long.SIZE;
+
+    private final TreeMap<Integer, Chunk> chunks = new TreeMap<>();
+
+    /**
+     * Adds {@code value} to the set.
+     */
+    public void add(int value) {
+        checkArgument(value >= 0, "Only non-negative integers can be stored");
+        int high = value >>> CHUNK_BITS;
+        Chunk chunk = chunks.get(high);
+        if (chunk == null) {
+            chunks.put(high, new ArrayChunk(new char[] {lowBits(value)}, 1));
+            return;
+        }
+        Chunk result = chunk.add(lowBits(value));
+        if (result != chunk) {
+            chunks.put(high, result);
+        }
+    }
+
+    /**
+     * Removes {@code value} from the set. Does nothing if it is not in the set.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        chunks.computeIfPresent(value >>> CHUNK_BITS, (unused, chunk) -> chunk.remove(lowBits(value)));
+    }
+
+    /**
+     * Removes all integers from the set.
+     */
+    public void clear() {
+        chunks.clear();
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        Chunk chunk = value < 0 ? null : chunks.get(value >>> CHUNK_BITS);
+        return chunk != null && chunk.contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of integers in the set.
+     */
+    public int getCardinality() {
+        return chunks.values().stream().mapToInt(Chunk::getCardinality).sum();
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    /**
+     * Passes the integers in the set to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        chunks.forEach((high, chunk) -> chunk.forEach(high << CHUNK_BITS, action));
+    }
+
+    /**
+     * Returns a new set of the integers in both this set and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        chunks.forEach((high, chunk) -> {
+            Chunk otherChunk = other.chunks.get(high);
+            Chunk intersection = otherChunk == null ? null : Chunk.and(chunk, otherChunk);
+            if (intersection != null) {
+                result.chunks.put(high, intersection);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a new set of the integers in this set or {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = copy();
+        other.chunks.forEach((high, otherChunk) -> {
+            Chunk chunk = result.chunks.get(high);
+            result.chunks.put(high, chunk == null ? otherChunk.copy() : Chunk.or(chunk, otherChunk));
+        });
+        return result;
+    }
+
+    /**
+     * Returns a new set of the integers in this set but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        chunks.forEach((high, chunk) -> {
+            Chunk otherChunk = other.chunks.get(high);
+            Chunk difference = otherChunk == null ? chunk.copy() : Chunk.andNot(chunk, otherChunk);
+            if (difference != null) {
+                result.chunks.put(high, difference);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a new set of the same integers.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap result = new CompressedBitmap();
+        chunks.forEach((high, chunk) -> result.chunks.put(high, chunk.copy()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        Map<Integer, Chunk> otherChunks = ((CompressedBitmap) other).chunks;
+        return chunks.keySet().equals(otherChunks.keySet()) && chunks.entrySet().stream().allMatch(entry ->
+                Arrays.equals(entry.getValue().toWords(), otherChunks.get(entry.getKey()).toWords()));
+    }
+
+    @Override
+    public int hashCode() {
+        return chunks.keySet().hashCode();
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    /**
+     * The lower 16 bits of the integers that share the same upper 16 bits. A chunk is never empty: the operations
+     * that could empty it return null instead.
+     */
+    private abstract static class Chunk {
+
+        abstract boolean contains(char value);
+
+        /** Adds {@code value}, returning the chunk that holds the result, which may be this chunk. */
+        abstract Chunk add(char value);
+
+        /** Removes {@code value}, returning the chunk that holds the result, or null if it is empty. */
+        abstract Chunk remove(char value);
+
+        abstract int getCardinality();
+
+        abstract void forEach(int base, IntConsumer action);
+
+        /** Returns the chunk as 1024 words of bits, which must not be modified. */
+        abstract long[] toWords();
+
+        abstract Chunk copy();
+
+        static Chunk and(Chunk first, Chunk second) {
+            if (first instanceof ArrayChunk) {
+                return ((ArrayChunk) first).filter(second, true);
+            } else if (second instanceof ArrayChunk) {
+                return ((ArrayChunk) second).filter(first, true);
+            }
+            long[] words = first.toWords().clone();
+            long[] otherWords = second.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                words[i] &= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        static Chunk or(Chunk first, Chunk second) {
+            if (first instanceof ArrayChunk && second instanceof ArrayChunk) {
+                return ((ArrayChunk) first).union((ArrayChunk) second);
+            } else if (first instanceof ArrayChunk) {
+                return ((ArrayChunk) first).addTo(second.copy());
+            } else if (second instanceof ArrayChunk) {
+                return ((ArrayChunk) second).addTo(first.copy());
+            }
+            long[] words = first.toWords().clone();
+            long[] otherWords = second.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                words[i] |= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        static Chunk andNot(Chunk first, Chunk second) {
+            if (first instanceof ArrayChunk) {
+                return ((ArrayChunk) first).filter(second, false);
+            }
+            long[] words = first.toWords().clone();
+            long[] otherWords = second.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        /** Returns the smaller kind of chunk that holds the bits in {@code words}, or null if there are none. */
+        static Chunk fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            if (cardinality > MAX_ARRAY_SIZE) {
+                return new BitmapChunk(words, cardinality);
+            }
+
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[size++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayChunk(values, size);
+        }
+    }
+
+    /**
+     * A chunk of at most {@value #MAX_ARRAY_SIZE} values in a sorted array.
+     */
+    private static class ArrayChunk extends Chunk {
+        private char[] values;
+        private int size;
+
+        ArrayChunk(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                return new BitmapChunk(toWords(), size).add(value);
+            }
+
+            int insertion = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, Math.max(4, size * 2)));
+            }
+            System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+            values[insertion] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position < 0) {
+                return this;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return size == 0 ? null : this;
+        }
+
+        @Override
+        int getCardinality() {
+            return size;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < size; i++) {
+                words[values[i] / Long.SIZE] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, size), size);
+        }
+
+        /** Returns the values in this chunk or {@code other}, merging the two sorted arrays. */
+        Chunk union(ArrayChunk other) {
+            char[] merged = new char[size + other.size];
+            int mergedSize = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < other.size) {
+                if (j == other.size || (i < size && values[i] < other.values[j])) {
+                    merged[mergedSize++] = values[i++];
+                } else if (i == size || other.values[j] < values[i]) {
+                    merged[mergedSize++] = other.values[j++];
+                } else {
+                    merged[mergedSize++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayChunk union = new ArrayChunk(merged, mergedSize);
+            return mergedSize > MAX_ARRAY_SIZE ? new BitmapChunk(union.toWords(), mergedSize) : union;
+        }
+
+        /** Adds the values of this chunk to {@code other}, returning the chunk that holds the result. */
+        Chunk addTo(Chunk other) {
+            Chunk result = other;
+            for (int i = 0; i < size; i++) {
+                result = result.add(values[i]);
+            }
+            return result;
+        }
+
+        /** Returns the values that are, or are not, in {@code other}, or null if there are none. */
+        Chunk filter(Chunk other, boolean isKept) {
+            char[] kept = new char[size];
+            int keptSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i]) == isKept) {
+                    kept[keptSize++] = values[i];
+                }
+            }
+            return keptSize == 0 ? null : new ArrayChunk(kept, keptSize);
+        }
+    }
+
+    /**
+     * A chunk of more than {@value #MIN_BITMAP_SIZE} values in a bitmap of 1024 words.
+     */
+    private static class BitmapChunk extends Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value / Long.SIZE] & (1L << value)) != 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            if (!contains(value)) {
+                words[value / Long.SIZE] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+            words[value / Long.SIZE] &= ~(1L << value);
+            cardinality--;
+            return cardinality > MIN_BITMAP_SIZE ? this : fromWords(words);
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(base | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                }
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            return words;
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+    }
+}
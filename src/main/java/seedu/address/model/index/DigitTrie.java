@@ -0,0 +1,167 @@
+package seedu.address.model.index;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A trie over strings of decimal digits, which maps each string to the persons added under it.
+ * <p>
+ * A lookup walks one node per digit, so an exact match costs {@code O(digits)} however many strings are in the
+ * trie, and a prefix match additionally visits only the subtree below the prefix. Every node counts the persons in
+ * its subtree, so the number of matches is known without visiting it. Nodes hold their children in an array indexed
+ * by digit, and nodes left without persons are pruned when persons are removed.
+ */
+public class DigitTrie {
+
+    private static final int RADIX = 10;
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code person} under {@code digits}.
+     *
+     * @throws IllegalArgumentException if {@code digits} contains a character that is not a decimal digit.
+     */
+    public void add(String digits, Person person) {
+        Node[] path = new Node[digits.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = toDigit(digits.charAt(i));
+            if (node.children[digit] == null) {
+                node.children[digit] = new Node();
+            }
+            node = node.children[digit];
+            path[i + 1] = node;
+        }
+        if (node.persons == null) {
+            node.persons = new HashSet<>();
+        }
+        if (node.persons.add(person)) {
+            for (Node onPath : path) {
+                onPath.subtreeSize++;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from under {@code digits}. Does nothing if it was not added under {@code digits}.
+     */
+    public void remove(String digits, Person person) {
+        Node[] path = new Node[digits.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < digits.length(); i++) {
+            node = node.children[toDigit(digits.charAt(i))];
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+        if (node.persons == null || !node.persons.remove(person)) {
+            return;
+        }
+        if (node.persons.isEmpty()) {
+            node.persons = null;
+        }
+        for (Node onPath : path) {
+            onPath.subtreeSize--;
+        }
+
+        // prune the nodes that no longer lead to any person, from the bottom up
+        for (int i = digits.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children[toDigit(digits.charAt(i - 1))] = null;
+        }
+    }
+
+    /**
+     * Removes all persons from the trie.
+     */
+    public void clear() {
+        for (int digit = 0; digit < RADIX; digit++) {
+            root.children[digit] = null;
+        }
+        root.subtreeSize = 0;
+        root.persons = null;
+    }
+
+    /**
+     * Returns the number of persons added under exactly {@code digits}.
+     */
+    public int count(String digits) {
+        Node node = getNode(digits);
+        return node == null || node.persons == null ? 0 : node.persons.size();
+    }
+
+    /**
+     * Returns the number of persons added under a string that starts with {@code prefix}.
+     */
+    public int countWithPrefix(String prefix) {
+        Node node = getNode(prefix);
+        return node == null ? 0 : node.subtreeSize;
+    }
+
+    /**
+     * Returns the persons added under exactly {@code digits}.
+     */
+    public Set<Person> find(String digits) {
+        Node node = getNode(digits);
+        return node == null || node.persons == null ? new HashSet<>() : new HashSet<>(node.persons);
+    }
+
+    /**
+     * Returns the persons added under a string that starts with {@code prefix}.
+     */
+    public Set<Person> findWithPrefix(String prefix) {
+        Set<Person> matches = new HashSet<>();
+        Node start = getNode(prefix);
+        if (start == null) {
+            return matches;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.persons != null) {
+                matches.addAll(node.persons);
+            }
+            for (Node child : node.children) {
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private Node getNode(String digits) {
+        Node node = root;
+        for (int i = 0; i < digits.length() && node != null; i++) {
+            node = node.children[toDigit(digits.charAt(i))];
+        }
+        return node;
+    }
+
+    private static int toDigit(char character) {
+        if (character < '0' || character > '9') {
+            throw new IllegalArgumentException("Not a decimal digit: " + character);
+        }
+        return character - '0';
+    }
+
+    private static class Node {
+        private final Node[] children = new Node[RADIX];
+        /** The number of persons added under this node and its descendants. */
+        private int subtreeSize;
+        private Set<Person> persons;
+
+        private boolean isEmpty() {
+            return subtreeSize == 0;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes the words of person names by their trigrams, so that the words spelt similarly to a possibly misspelled
+ * keyword can be found without comparing the keyword against every word.
+ * <p>
+ * Words are padded as {@code "$$word$"} before they are split into trigrams. One edit changes at most four of the
+ * trigrams of a word, so a word within {@code d} edits of a keyword with {@code t} distinct trigrams shares at least
+ * {@code t - 4d} of them. Only the words that share enough trigrams are compared with the keyword, and the
+ * comparison stops as soon as the words are known to be more than {@code d} edits apart.
+ */
+public class FuzzyNameIndex implements PersonIndex {
+
+    /** Keywords up to this length must match exactly. */
+    public static final int MAX_EXACT_LENGTH = 2;
+    /** Keywords up to this length may be one edit away from the matched word; longer keywords, two edits. */
+    public static final int MAX_ONE_EDIT_LENGTH = 5;
+
+    private static final char PADDING = '$';
+
+    private final NameWordIndex nameWordIndex;
+    private final Map<String, Integer> wordCounts = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Creates a {@code FuzzyNameIndex} that looks up the persons with a matched word in {@code nameWordIndex}, which
+     * must index the same persons.
+     */
+    public FuzzyNameIndex(NameWordIndex nameWordIndex) {
+        requireNonNull(nameWordIndex);
+        this.nameWordIndex = nameWordIndex;
+    }
+
+    @Override
+    public void add(Person person) {
+        for (String key : person.getNameWords()) {
+            if (wordCounts.merge(key, 1, Integer::sum) == 1) {
+                for (String trigram : getTrigrams(key)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(key);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (String key : person.getNameWords()) {
+            Integer count = wordCounts.get(key);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                wordCounts.put(key, count - 1);
+                continue;
+            }
+            wordCounts.remove(key);
+            for (String trigram : getTrigrams(key)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(key);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        wordCounts.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains a word spelt similarly to any of {@code keywords}, ignoring case, the
+     * most similar first. A person's similarity is the sum, over the keywords, of the similarity of the keyword to
+     * the closest word of the person's name, where a word that is {@code e} edits away from a keyword has similarity
+     * {@code 1 - e / max(keyword length, word length)}.
+     */
+    public List<Person> find(Collection<String> keywords) {
+        Map<Person, Double> similarities = new HashMap<>();
+        for (String keyword : keywords) {
+            Map<Person, Double> keywordSimilarities = new HashMap<>();
+            String key = toKey(keyword.trim());
+            findSimilarWords(key).forEach((word, similarity) -> {
+                for (Person person : nameWordIndex.find(word)) {
+                    keywordSimilarities.merge(person, similarity, Math::max);
+                }
+            });
+            keywordSimilarities.forEach((person, similarity) -> similarities.merge(person, similarity, Double::sum));
+        }
+
+        List<Person> matches = new ArrayList<>(similarities.keySet());
+        matches.sort(Comparator.comparing((Person person) -> similarities.get(person)).reversed()
+                .thenComparing(person -> person.getName().fullName));
+        return matches;
+    }
+
+    /**
+     * Returns the maximum number of edits between a keyword of the given length and a word it matches.
+     */
+    public static int getMaxEdits(int keywordLength) {
+        if (keywordLength <= MAX_EXACT_LENGTH) {
+            return 0;
+        }
+        return keywordLength <= MAX_ONE_EDIT_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns the indexed words within {@link #getMaxEdits(int)} edits of {@code key}, with their similarity to it.
+     */
+    private Map<String, Double> findSimilarWords(String key) {
+        Map<String, Double> similarWords = new HashMap<>();
+        if (key.isEmpty()) {
+            return similarWords;
+        }
+
+        int maxEdits = getMaxEdits(key.length());
+        Set<String> trigrams = getTrigrams(key);
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        int minSharedTrigrams = Math.max(1, trigrams.size() - 4 * maxEdits);
+        sharedTrigramCounts.forEach((word, sharedTrigrams) -> {
+            if (sharedTrigrams < minSharedTrigrams) {
+                return;
+            }
+            int edits = StringUtil.getEditDistance(key, word, maxEdits);
+            if (edits <= maxEdits) {
+                similarWords.put(word, 1 - (double) edits / Math.max(key.length(), word.length()));
+            }
+        });
+        return similarWords;
+    }
+
+    private static Set<String> getTrigrams(String key) {
+        String padded = "" + PADDING + PADDING + key + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by the words of their names, ignoring case, so that the persons matched by a
+ * {@link seedu.address.model.person.NameContainsKeywordsPredicate} can be looked up without scanning every person.
+ */
+public class NameWordIndex implements PersonIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        for (String key : person.getNameWords()) {
+            personsByWord.computeIfAbsent(key, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (String key : person.getNameWords()) {
+            Set<Person> persons = personsByWord.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByWord.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByWord.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code words} as a whole word, ignoring case.
+     */
+    public Set<Person> find(Collection<String> words) {
+        Set<Person> matches = new HashSet<>();
+        for (String word : words) {
+            matches.addAll(personsByWord.getOrDefault(toKey(word.trim()), Set.of()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public Set<Person> find(String word) {
+        return Collections.unmodifiableSet(personsByWord.getOrDefault(toKey(word.trim()), Set.of()));
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
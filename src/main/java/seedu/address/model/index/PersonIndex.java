@@ -0,0 +1,27 @@
+package seedu.address.model.index;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An index over the persons of an {@link AddressBook}, which the address book keeps up to date as its persons change.
+ *
+ * @see AddressBook#addIndex(PersonIndex)
+ */
+public interface PersonIndex {
+
+    /**
+     * Indexes {@code person}, which has been added to the address book.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person}, which has been removed from the address book, from the index.
+     */
+    void remove(Person person);
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear();
+}
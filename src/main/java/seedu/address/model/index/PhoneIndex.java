@@ -0,0 +1,96 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by their phone number, so that the owner of a number, or of the numbers with a given area code or
+ * ending, can be found without scanning every person.
+ * <p>
+ * Numbers are kept in one {@link DigitTrie} as written and in another reversed, so that suffix queries become
+ * prefix queries on the reversed numbers.
+ */
+public class PhoneIndex implements PersonIndex {
+
+    /**
+     * Represents how the queried digits are matched against a phone number.
+     */
+    public enum Match {
+        /** The number must be the queried digits. */
+        EXACT,
+        /** The number must start with the queried digits. */
+        PREFIX,
+        /** The number must end with the queried digits. */
+        SUFFIX
+    }
+
+    private final DigitTrie numbers = new DigitTrie();
+    private final DigitTrie reversedNumbers = new DigitTrie();
+
+    @Override
+    public void add(Person person) {
+        String number = person.getPhone().value;
+        numbers.add(number, person);
+        reversedNumbers.add(reverse(number), person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        String number = person.getPhone().value;
+        numbers.remove(number, person);
+        reversedNumbers.remove(reverse(number), person);
+    }
+
+    @Override
+    public void clear() {
+        numbers.clear();
+        reversedNumbers.clear();
+    }
+
+    /**
+     * Returns the persons whose phone number matches {@code digits} in the given way.
+     *
+     * @throws IllegalArgumentException if {@code digits} contains a character that is not a decimal digit.
+     */
+    public Set<Person> find(String digits, Match match) {
+        requireNonNull(digits);
+        requireNonNull(match);
+        checkArgument(digits.matches("\\d*"), "Phone queries can only contain digits");
+        switch (match) {
+        case PREFIX:
+            return numbers.findWithPrefix(digits);
+        case SUFFIX:
+            return reversedNumbers.findWithPrefix(reverse(digits));
+        default:
+            return numbers.find(digits);
+        }
+    }
+
+    /**
+     * Returns the number of persons whose phone number matches {@code digits} in the given way, without looking
+     * them up.
+     *
+     * @throws IllegalArgumentException if {@code digits} contains a character that is not a decimal digit.
+     */
+    public int count(String digits, Match match) {
+        requireNonNull(digits);
+        requireNonNull(match);
+        checkArgument(digits.matches("\\d*"), "Phone queries can only contain digits");
+        switch (match) {
+        case PREFIX:
+            return numbers.countWithPrefix(digits);
+        case SUFFIX:
+            return reversedNumbers.countWithPrefix(reverse(digits));
+        default:
+            return numbers.count(digits);
+        }
+    }
+
+    private static String reverse(String digits) {
+        return new StringBuilder(digits).reverse().toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by the phonetic keys of the words of their names, so that the persons with a name that sounds like
+ * a keyword are found by looking up the keyword's key, instead of encoding every name.
+ *
+ * @see PhoneticUtil#getPhoneticKey(String)
+ */
+public class PhoneticNameIndex implements PersonIndex {
+
+    private final Map<String, Set<Person>> personsByKey = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        for (String key : getNameKeys(person)) {
+            personsByKey.computeIfAbsent(key, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (String key : getNameKeys(person)) {
+            Set<Person> persons = personsByKey.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByKey.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains a word that sounds like any of {@code keywords}.
+     */
+    public Set<Person> find(Collection<String> keywords) {
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String key = PhoneticUtil.getPhoneticKey(keyword);
+            if (!key.isEmpty()) {
+                matches.addAll(personsByKey.getOrDefault(key, Set.of()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the distinct, non-empty phonetic keys of the words of the person's name.
+     */
+    private static Set<String> getNameKeys(Person person) {
+        Set<String> keys = new HashSet<>();
+        for (String word : person.getNameWords()) {
+            String key = PhoneticUtil.getPhoneticKey(word);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * A prefix trie over terms with frequency counts, which answers the most frequent terms that start with a prefix.
+ * Terms are matched case-insensitively, and completions are returned in the case in which they were last added.
+ * <p>
+ * Every node keeps the highest count in its subtree, so the top completions are found by a best-first search that
+ * only visits the branches that can contain them, regardless of how many terms share the prefix.
+ * Children are kept in sorted arrays rather than maps to keep nodes small.
+ */
+public class PrefixTrie {
+
+    private static final Comparator<Candidate> BY_COUNT_THEN_KEY = Comparator
+            .comparingInt((Candidate candidate) -> candidate.count).reversed()
+            .thenComparing(candidate -> candidate.key);
+
+    private Node root = new Node();
+    private int size;
+
+    /**
+     * Returns the number of distinct terms in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Increments the count of {@code term}, adding it if it is not in the trie yet.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        String key = toKey(term);
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+            path[i + 1] = node;
+        }
+
+        if (node.count == 0) {
+            size++;
+        }
+        node.count++;
+        node.term = term;
+        for (Node onPath : path) {
+            onPath.maxCount = Math.max(onPath.maxCount, node.count);
+        }
+    }
+
+    /**
+     * Decrements the count of {@code term}, removing it when the count reaches zero.
+     * Does nothing if {@code term} is not in the trie.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        String key = toKey(term);
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getChild(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+        if (node.count == 0) {
+            return;
+        }
+
+        node.count--;
+        if (node.count == 0) {
+            node.term = null;
+            size--;
+        }
+        for (int i = key.length(); i >= 0; i--) {
+            Node onPath = path[i];
+            if (i > 0 && onPath.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            } else {
+                onPath.updateMaxCount();
+            }
+        }
+    }
+
+    /**
+     * Returns the count of {@code term}, which is 0 if it is not in the trie.
+     */
+    public int getCount(String term) {
+        Node node = find(toKey(term));
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns at most {@code limit} terms that start with {@code prefix}, from the most frequent to the least.
+     * Terms that are equally frequent are in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        String key = toKey(prefix);
+        Node start = find(key);
+        if (start == null || limit <= 0) {
+            return completions;
+        }
+
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_COUNT_THEN_KEY);
+        candidates.add(new Candidate(start, key, start.maxCount, false));
+        while (!candidates.isEmpty() && completions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            Node node = candidate.node;
+            if (candidate.isTerm) {
+                completions.add(node.term);
+                continue;
+            }
+            if (node.count > 0) {
+                candidates.add(new Candidate(node, candidate.key, node.count, true));
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                Node child = node.children[i];
+                candidates.add(new Candidate(child, candidate.key + node.labels[i], child.maxCount, false));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Removes all terms.
+     */
+    public void clear() {
+        root = new Node();
+        size = 0;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static String toKey(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie, which holds a term if its count is positive.
+     */
+    private static class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        private int count;
+        private int maxCount;
+        private String term;
+
+        Node getChild(char label) {
+            int i = Arrays.binarySearch(labels, 0, childCount, label);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char label) {
+            int i = Arrays.binarySearch(labels, 0, childCount, label);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            int insertAt = -i - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int i = Arrays.binarySearch(labels, 0, childCount, label);
+            if (i < 0) {
+                return;
+            }
+            System.arraycopy(labels, i + 1, labels, i, childCount - i - 1);
+            System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        void updateMaxCount() {
+            int max = count;
+            for (int i = 0; i < childCount; i++) {
+                max = Math.max(max, children[i].maxCount);
+            }
+            maxCount = max;
+        }
+
+        boolean isEmpty() {
+            return count == 0 && childCount == 0;
+        }
+    }
+
+    /**
+     * A subtree, or the term of a node, that may hold completions.
+     * {@code count} is the highest count of the terms it holds, and {@code key} is the lowest key among them.
+     */
+    private static class Candidate {
+        private final Node node;
+        private final String key;
+        private final int count;
+        private final boolean isTerm;
+
+        Candidate(Node node, String key, int count, boolean isTerm) {
+            this.node = node;
+            this.key = key;
+            this.count = count;
+            this.isTerm = isTerm;
+        }
+    }
+}
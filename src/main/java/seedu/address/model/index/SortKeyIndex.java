@@ -0,0 +1,97 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the {@link CollationKey} of a field of every person, so that persons can be ordered by that field in the
+ * way of the user's locale without collating their text on every comparison.
+ * <p>
+ * A key is made once for each person, either when the person is added or the first time the person is compared,
+ * and two persons are then compared by comparing the bytes of their keys. Keys are only kept while a field is set.
+ */
+public class SortKeyIndex implements PersonIndex {
+
+    /**
+     * Represents the field of a person that persons are ordered by.
+     */
+    public enum Field {
+        NAME(person -> person.getName().fullName),
+        PHONE(person -> person.getPhone().value),
+        EMAIL(person -> person.getEmail().value),
+        ADDRESS(person -> person.getAddress().value);
+
+        private final Function<Person, String> getter;
+
+        Field(Function<Person, String> getter) {
+            this.getter = getter;
+        }
+
+        /**
+         * Returns the value of this field of {@code person}.
+         */
+        public String getValue(Person person) {
+            return getter.apply(person);
+        }
+    }
+
+    private final Collator collator = Collator.getInstance();
+    private final Map<Person, CollationKey> keys = new HashMap<>();
+    private Field field;
+
+    /**
+     * Orders persons by {@code field} from now on, or stops keeping keys if {@code field} is empty.
+     */
+    public void setField(Optional<Field> field) {
+        requireNonNull(field);
+        this.field = field.orElse(null);
+        keys.clear();
+    }
+
+    public Optional<Field> getField() {
+        return Optional.ofNullable(field);
+    }
+
+    /**
+     * Returns a comparator that orders persons by the collation keys of the field that is set.
+     * It must only be used while a field is set.
+     */
+    public Comparator<Person> getComparator() {
+        return (first, second) -> getKey(first).compareTo(getKey(second));
+    }
+
+    @Override
+    public void add(Person person) {
+        if (field != null) {
+            getKey(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        keys.remove(person);
+    }
+
+    @Override
+    public void clear() {
+        keys.clear();
+    }
+
+    /**
+     * Returns the key of {@code person}, making it if the person has none yet. A person may be compared before it
+     * is added, as the address book changes its list of persons before its indexes.
+     */
+    private CollationKey getKey(Person person) {
+        assert field != null;
+        return keys.computeIfAbsent(person, unused -> collator.getCollationKey(field.getValue(person)));
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.model.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes persons by their tags, so that the persons with a tag can be found without scanning every person.
+ * <p>
+ * Every indexed person is given a small integer slot, and every distinct tag a dense integer ID. The persons with a
+ * tag are kept as a {@link CompressedBitmap} of their slots, so that the persons with several tags, with any of
+ * them, or without them, are found with bitmap operations, and the number of persons with a tag is the cardinality
+ * of its bitmap. Slots of removed persons are reused by the next persons added, which keeps the bitmaps compact.
+ * A tag whose last person is removed is dropped, and its ID is reused by the next new tag.
+ */
+public class TagIndex implements PersonIndex {
+
+    private final Map<Person, Integer> slotsByPerson = new HashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final CompressedBitmap usedSlots = new CompressedBitmap();
+
+    private final Map<Tag, Integer> tagIds = new HashMap<>();
+    private final List<CompressedBitmap> slotsByTagId = new ArrayList<>();
+    private final Deque<Integer> freeTagIds = new ArrayDeque<>();
+
+    @Override
+    public void add(Person person) {
+        if (slotsByPerson.containsKey(person)) {
+            return;
+        }
+
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = personsBySlot.size();
+            personsBySlot.add(person);
+        } else {
+            slot = freeSlots.pop();
+            personsBySlot.set(slot, person);
+        }
+        slotsByPerson.put(person, slot);
+        usedSlots.add(slot);
+
+        for (Tag tag : person.getTags()) {
+            int tagId = tagIds.computeIfAbsent(tag, unused -> {
+                if (!freeTagIds.isEmpty()) {
+                    int freeTagId = freeTagIds.pop();
+                    slotsByTagId.set(freeTagId, new CompressedBitmap());
+                    return freeTagId;
+                }
+                slotsByTagId.add(new CompressedBitmap());
+                return slotsByTagId.size() - 1;
+            });
+            slotsByTagId.get(tagId).add(slot);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+
+        for (Tag tag : person.getTags()) {
+            Integer tagId = tagIds.get(tag);
+            if (tagId == null) {
+                continue;
+            }
+            CompressedBitmap slots = slotsByTagId.get(tagId);
+            slots.remove(slot);
+            if (slots.isEmpty()) {
+                tagIds.remove(tag);
+                slotsByTagId.set(tagId, null);
+                freeTagIds.push(tagId);
+            }
+        }
+        usedSlots.remove(slot);
+        personsBySlot.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    @Override
+    public void clear() {
+        slotsByPerson.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        usedSlots.clear();
+        tagIds.clear();
+        slotsByTagId.clear();
+        freeTagIds.clear();
+    }
+
+    /**
+     * Returns the persons with {@code tag}.
+     */
+    public Set<Person> find(Tag tag) {
+        return toPersons(getSlots(tag));
+    }
+
+    /**
+     * Returns the persons with any of {@code tags}.
+     */
+    public Set<Person> findAny(Collection<Tag> tags) {
+        CompressedBitmap slots = new CompressedBitmap();
+        for (Tag tag : tags) {
+            Integer tagId = tagIds.get(tag);
+            if (tagId != null) {
+                slots = slots.or(slotsByTagId.get(tagId));
+            }
+        }
+        return toPersons(slots);
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int count(Tag tag) {
+        Integer tagId = tagIds.get(tag);
+        return tagId == null ? 0 : slotsByTagId.get(tagId).getCardinality();
+    }
+
+    /**
+     * Returns the number of tags that at least one indexed person has.
+     */
+    int getTagCount() {
+        return tagIds.size();
+    }
+
+    /**
+     * Returns a copy of the slots of the persons with {@code tag}, which can be combined with other slots by
+     * {@link CompressedBitmap} operations and turned back into persons by {@link #toPersons}.
+     */
+    public CompressedBitmap getSlots(Tag tag) {
+        Integer tagId = tagIds.get(tag);
+        return tagId == null ? new CompressedBitmap() : slotsByTagId.get(tagId).copy();
+    }
+
+    /**
+     * Returns a copy of the slots of all indexed persons.
+     */
+    public CompressedBitmap getAllSlots() {
+        return usedSlots.copy();
+    }
+
+    /**
+     * Returns the persons in {@code slots}.
+     */
+    public Set<Person> toPersons(CompressedBitmap slots) {
+        Set<Person> persons = new HashSet<>();
+        slots.forEach(slot -> {
+            Person person = slot < personsBySlot.size() ? personsBySlot.get(slot) : null;
+            if (person != null) {
+                persons.add(person);
+            }
+        });
+        return persons;
+    }
+}
@@ -1,24 +1,42 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
-
-import seedu.address.commons.util.StringUtil;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> keywordKeys;
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords} as a whole word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordKeys = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        // both sides are already in lower case, so no word is case-folded or split here, and nothing is allocated
+        List<String> words = person.getNameWords();
+        for (int i = 0; i < words.size(); i++) {
+            if (keywordKeys.contains(words.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
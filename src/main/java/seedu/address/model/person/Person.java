@@ -2,12 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -22,7 +23,11 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Derived fields, computed once as persons are hashed and searched far more often than they are created
+    private final List<String> nameWords;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -33,7 +38,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.nameWords = List.of(name.fullName.toLowerCase(Locale.ROOT).split("\\s+"));
+        this.hash = Objects.hash(name, phone, email, address, this.tags);
     }
 
     public Name getName() {
@@ -53,11 +60,18 @@ public class Person {
     }
 
     /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable tag set, sorted by tag name, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns the words of the name in lower case, in the order they appear in the name.
+     */
+    public List<String> getNameWords() {
+        return nameWords;
     }
 
     /**
@@ -88,7 +102,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return otherPerson.getName().equals(getName())
+        return otherPerson.hash == hash
+                && otherPerson.getName().equals(getName())
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getEmail().equals(getEmail())
                 && otherPerson.getAddress().equals(getAddress())
@@ -97,8 +112,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hash;
     }
 
     @Override
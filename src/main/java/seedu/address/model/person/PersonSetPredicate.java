@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Person} is one of the persons found beforehand, e.g. by an index lookup.
+ * <p>
+ * Testing a person is a single set lookup, so the model does not scan the person list for this predicate before
+ * filtering by it.
+ */
+public class PersonSetPredicate implements Predicate<Person> {
+    private final Set<Person> persons;
+
+    public PersonSetPredicate(Set<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return persons.contains(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonSetPredicate // instanceof handles nulls
+                && persons.equals(((PersonSetPredicate) other).persons)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -48,6 +53,27 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all persons in {@code toAdd} to the end of the list.
+     * The persons must not already exist in the list, and must not contain duplicates. As checking this is
+     * expensive for large lists, it is only asserted.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        assert areNewAndUnique(toAdd);
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Returns true if {@code toAdd} contains only unique persons that are not in the list yet.
+     * The names are hashed, so that checking a chunk of a large address book does not take quadratic time.
+     */
+    private boolean areNewAndUnique(List<Person> toAdd) {
+        Set<Name> names = new HashSet<>(internalList.size() + toAdd.size());
+        internalList.forEach(person -> names.add(person.getName()));
+        return toAdd.stream().allMatch(person -> names.add(person.getName()));
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -79,6 +105,52 @@ public class UniquePersonList implements Iterable<Person> {
         }
     }
 
+    /**
+     * Removes all the equivalent persons in {@code toRemove} from the list in a single pass, which is reported as
+     * a single change of the list.
+     * The persons must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> notRemoved = new HashSet<>(toRemove);
+        List<Person> remaining = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            if (!notRemoved.remove(person)) {
+                remaining.add(person);
+            }
+        }
+        if (!notRemoved.isEmpty()) {
+            throw new PersonNotFoundException();
+        }
+
+        internalList.setAll(remaining);
+    }
+
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the edited person it maps to, in a single
+     * pass which is reported as a single change of the list.
+     * The persons to replace must exist in the list, and each edited person must have the same identity as the person
+     * it replaces, which is only asserted as it always holds when names are not edited.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        assert editedPersons.entrySet().stream().allMatch(entry -> entry.getKey().isSamePerson(entry.getValue()));
+        List<Person> persons = new ArrayList<>(internalList.size());
+        int editedCount = 0;
+        for (Person person : internalList) {
+            Person editedPerson = editedPersons.get(person);
+            if (editedPerson != null) {
+                editedCount++;
+            }
+            persons.add(editedPerson != null ? editedPerson : person);
+        }
+        if (editedCount != editedPersons.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        internalList.setAll(persons);
+    }
+
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -0,0 +1,52 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given queries.
+ */
+public class AndQuery implements Query {
+
+    private final List<Query> queries;
+
+    /**
+     * Creates an {@code AndQuery} over at least two {@code queries}.
+     */
+    public AndQuery(List<Query> queries) {
+        requireNonNull(queries);
+        checkArgument(queries.size() >= 2, "An AND query needs at least two queries");
+        this.queries = List.copyOf(queries);
+    }
+
+    public List<Query> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().allMatch(query -> query.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && queries.equals(((AndQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString).collect(Collectors.joining(" and ", "(", ")"));
+    }
+}
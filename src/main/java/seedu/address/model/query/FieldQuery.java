@@ -0,0 +1,182 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.WordMatcher;
+import seedu.address.model.index.PhoneIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that one field of a {@code Person} matches a value:
+ * <ul>
+ *     <li>name: the name contains every word of the value, ignoring case.</li>
+ *     <li>phone: the number is the value, or starts with it if the value ends with {@code *}, or ends with it if
+ *     the value starts with {@code *}.</li>
+ *     <li>email and address: the field contains the value, ignoring case.</li>
+ *     <li>tag: the person has the tag named by the value.</li>
+ * </ul>
+ */
+public class FieldQuery implements Query {
+
+    public static final String MESSAGE_CONSTRAINTS = "Names must be alphanumeric words, phone numbers digits with an "
+            + "optional leading or trailing *, tags alphanumeric, and emails and addresses must not be blank";
+
+    public static final String WILDCARD = "*";
+
+    /**
+     * Represents a field of a person that can be queried.
+     */
+    public enum Field {
+        NAME("n/"), PHONE("p/"), EMAIL("e/"), ADDRESS("a/"), TAG("t/");
+
+        private final String prefix;
+
+        Field(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Returns the prefix that introduces the field in commands.
+         */
+        public String getPrefix() {
+            return prefix;
+        }
+    }
+
+    private final Field field;
+    private final String value;
+    // what the value is matched against is worked out once, as the query tests every person of a full scan
+    private final WordMatcher nameMatcher;
+    private final String phoneDigits;
+    private final PhoneIndex.Match phoneMatch;
+    private final Tag tag;
+
+    /**
+     * Every field must be present and not null, and {@code value} must be valid for {@code field}.
+     */
+    public FieldQuery(Field field, String value) {
+        requireAllNonNull(field, value);
+        checkArgument(isValidValue(field, value), MESSAGE_CONSTRAINTS);
+        this.field = field;
+        this.value = value;
+        this.nameMatcher = field == Field.NAME ? new WordMatcher(getNameWords()) : null;
+        this.phoneDigits = value.replace(WILDCARD, "");
+        if (value.startsWith(WILDCARD)) {
+            this.phoneMatch = PhoneIndex.Match.SUFFIX;
+        } else {
+            this.phoneMatch = value.endsWith(WILDCARD) ? PhoneIndex.Match.PREFIX : PhoneIndex.Match.EXACT;
+        }
+        this.tag = field == Field.TAG ? Tag.of(value) : null;
+    }
+
+    /**
+     * Returns true if {@code value} can be matched against {@code field}.
+     */
+    public static boolean isValidValue(Field field, String value) {
+        switch (field) {
+        case NAME:
+            return value.matches("\\s*\\p{Alnum}+(\\s+\\p{Alnum}+)*\\s*");
+        case PHONE:
+            return value.matches("\\*?\\d+\\*?") && !(value.startsWith(WILDCARD) && value.endsWith(WILDCARD));
+        case TAG:
+            return Tag.isValidTagName(value);
+        default:
+            return !value.isBlank();
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the words that a name must contain.
+     */
+    public List<String> getNameWords() {
+        return Arrays.asList(value.trim().split("\\s+"));
+    }
+
+    /**
+     * Returns the digits that a phone number is matched against.
+     */
+    public String getPhoneDigits() {
+        return phoneDigits;
+    }
+
+    /**
+     * Returns how a phone number is matched against {@link #getPhoneDigits()}.
+     */
+    public PhoneIndex.Match getPhoneMatch() {
+        return phoneMatch;
+    }
+
+    /**
+     * Returns the tag that a person must have, or null if the field is not {@link Field#TAG}.
+     */
+    public Tag getTag() {
+        return tag;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (field) {
+        case NAME:
+            return nameMatcher.matchesAll(person.getName().fullName);
+        case PHONE:
+            return matchesPhone(person.getPhone().value);
+        case EMAIL:
+            return containsIgnoreCase(person.getEmail().value, value);
+        case ADDRESS:
+            return containsIgnoreCase(person.getAddress().value, value);
+        default:
+            return person.getTags().contains(tag);
+        }
+    }
+
+    private boolean matchesPhone(String number) {
+        switch (phoneMatch) {
+        case PREFIX:
+            return number.startsWith(phoneDigits);
+        case SUFFIX:
+            return number.endsWith(phoneDigits);
+        default:
+            return number.equals(phoneDigits);
+        }
+    }
+
+    private static boolean containsIgnoreCase(String text, String part) {
+        for (int start = 0; start <= text.length() - part.length(); start++) {
+            if (text.regionMatches(true, start, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldQuery // instanceof handles nulls
+                && field == ((FieldQuery) other).field
+                && value.equals(((FieldQuery) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field.getPrefix() + (value.contains(" ") ? "\"" + value + "\"" : value);
+    }
+}
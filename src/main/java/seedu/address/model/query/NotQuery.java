@@ -0,0 +1,47 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not satisfy the given query.
+ */
+public class NotQuery implements Query {
+
+    private final Query query;
+
+    /**
+     * Creates a {@code NotQuery} that negates {@code query}.
+     */
+    public NotQuery(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !query.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && query.equals(((NotQuery) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "not " + query;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies any of the given queries.
+ */
+public class OrQuery implements Query {
+
+    private final List<Query> queries;
+
+    /**
+     * Creates an {@code OrQuery} over at least two {@code queries}.
+     */
+    public OrQuery(List<Query> queries) {
+        requireNonNull(queries);
+        checkArgument(queries.size() >= 2, "An OR query needs at least two queries");
+        this.queries = List.copyOf(queries);
+    }
+
+    public List<Query> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().anyMatch(query -> query.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && queries.equals(((OrQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString).collect(Collectors.joining(" or ", "(", ")"));
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on the fields of a person, which may combine other conditions.
+ * A query can be tested against a single person, or planned by a {@link QueryPlanner} to find all the persons that
+ * satisfy it with the help of indexes.
+ */
+public interface Query extends Predicate<Person> {
+}
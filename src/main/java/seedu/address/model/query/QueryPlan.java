@@ -0,0 +1,220 @@
+package seedu.address.model.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.ParallelScan;
+import seedu.address.model.person.Person;
+
+/**
+ * A plan to find the persons that satisfy a {@link Query}, made by a {@link QueryPlanner}.
+ * A plan is a tree of steps, each with an estimate of the number of persons it produces.
+ */
+public abstract class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    private final long estimatedSize;
+
+    private QueryPlan(long estimatedSize) {
+        this.estimatedSize = estimatedSize;
+    }
+
+    /**
+     * Returns the estimated number of persons found by this plan.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the persons found by this plan. Must not run while the address book is being modified.
+     */
+    public abstract Set<Person> execute();
+
+    /**
+     * Returns a description of the steps of this plan, one per line, indented below the step that uses them.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder();
+        describe(explanation, 0);
+        return explanation.toString().stripTrailing();
+    }
+
+    /**
+     * Returns true if this plan looks persons up in indexes rather than testing every person.
+     */
+    abstract boolean isIndexed();
+
+    abstract void describe(StringBuilder explanation, int depth);
+
+    void appendStep(StringBuilder explanation, int depth, String step) {
+        explanation.append(INDENT.repeat(depth)).append(step)
+                .append(" (est. ").append(estimatedSize).append(")\n");
+    }
+
+    /**
+     * Looks the persons up in an index.
+     */
+    static class IndexLookup extends QueryPlan {
+        private final String description;
+        private final Supplier<Set<Person>> lookup;
+
+        IndexLookup(String description, long estimatedSize, Supplier<Set<Person>> lookup) {
+            super(estimatedSize);
+            this.description = description;
+            this.lookup = lookup;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            return lookup.get();
+        }
+
+        @Override
+        boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            appendStep(explanation, depth, "Index lookup " + description);
+        }
+    }
+
+    /**
+     * Keeps the persons found by all of its inputs, starting from the input expected to find the fewest.
+     */
+    static class Intersection extends QueryPlan {
+        private final List<QueryPlan> inputs;
+
+        /**
+         * @param inputs ordered by their estimated size, smallest first.
+         */
+        Intersection(List<QueryPlan> inputs) {
+            super(inputs.get(0).getEstimatedSize());
+            this.inputs = inputs;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> persons = new HashSet<>(inputs.get(0).execute());
+            for (int i = 1; i < inputs.size() && !persons.isEmpty(); i++) {
+                persons.retainAll(inputs.get(i).execute());
+            }
+            return persons;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            appendStep(explanation, depth, "Intersect");
+            inputs.forEach(input -> input.describe(explanation, depth + 1));
+        }
+    }
+
+    /**
+     * Combines the persons found by any of its inputs.
+     */
+    static class Union extends QueryPlan {
+        private final List<QueryPlan> inputs;
+
+        Union(List<QueryPlan> inputs, long estimatedSize) {
+            super(estimatedSize);
+            this.inputs = inputs;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> persons = new HashSet<>();
+            inputs.forEach(input -> persons.addAll(input.execute()));
+            return persons;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            appendStep(explanation, depth, "Union");
+            inputs.forEach(input -> input.describe(explanation, depth + 1));
+        }
+    }
+
+    /**
+     * Keeps the persons found by its input that also satisfy a query that no index could answer.
+     */
+    static class Filter extends QueryPlan {
+        private final QueryPlan input;
+        private final Query residual;
+
+        Filter(QueryPlan input, Query residual, long estimatedSize) {
+            super(estimatedSize);
+            this.input = input;
+            this.residual = residual;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> persons = new HashSet<>();
+            for (Person person : input.execute()) {
+                if (residual.test(person)) {
+                    persons.add(person);
+                }
+            }
+            return persons;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            appendStep(explanation, depth, "Filter " + residual);
+            input.describe(explanation, depth + 1);
+        }
+    }
+
+    /**
+     * Tests every person against the query, in parallel if there are many persons.
+     */
+    static class FullScan extends QueryPlan {
+        private final List<Person> persons;
+        private final Query query;
+
+        FullScan(List<Person> persons, Query query, long estimatedSize) {
+            super(estimatedSize);
+            this.persons = persons;
+            this.query = query;
+        }
+
+        @Override
+        public Set<Person> execute() {
+            Set<Person> matches = new HashSet<>();
+            for (int position : ParallelScan.findMatches(persons, query)) {
+                matches.add(persons.get(position));
+            }
+            return matches;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            appendStep(explanation, depth, "Scan all " + persons.size() + " persons for " + query);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.index.CompressedBitmap;
+import seedu.address.model.index.NameWordIndex;
+import seedu.address.model.index.PhoneIndex;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Plans how to find the persons that satisfy a {@link Query}.
+ * <p>
+ * Conditions on names, phone numbers and tags are looked up in indexes, which also tell how many persons each
+ * lookup finds. Any combination of tag conditions, including their negations, is answered exactly by bitmap
+ * operations in the tag index. The conditions of an AND are intersected starting from the lookup expected to find
+ * the fewest persons, and the conditions that no index can answer, such as those on emails and addresses or other
+ * negations, are then tested only against the persons found. An OR is answered by a union of lookups if all of its
+ * conditions can be looked up. Any other query is tested against every person.
+ */
+public class QueryPlanner {
+
+    /** The fraction of persons assumed to satisfy a condition that no index can estimate. */
+    public static final double DEFAULT_SELECTIVITY = 0.1;
+
+    private final List<Person> persons;
+    private final NameWordIndex nameWordIndex;
+    private final PhoneIndex phoneIndex;
+    private final TagIndex tagIndex;
+
+    /**
+     * Creates a {@code QueryPlanner} over {@code persons}, which must be the persons indexed by the given indexes.
+     */
+    public QueryPlanner(List<Person> persons, NameWordIndex nameWordIndex, PhoneIndex phoneIndex,
+            TagIndex tagIndex) {
+        requireAllNonNull(persons, nameWordIndex, phoneIndex, tagIndex);
+        this.persons = persons;
+        this.nameWordIndex = nameWordIndex;
+        this.phoneIndex = phoneIndex;
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * Returns a plan to find the persons that satisfy {@code query}.
+     * The plan must be made and executed while the address book is not being modified.
+     */
+    public QueryPlan plan(Query query) {
+        requireNonNull(query);
+        if (!(query instanceof FieldQuery) && isTagCombination(query)) {
+            return planTagCombination(query);
+        } else if (query instanceof FieldQuery) {
+            return planField((FieldQuery) query);
+        } else if (query instanceof AndQuery) {
+            return planAnd((AndQuery) query);
+        } else if (query instanceof OrQuery) {
+            return planOr((OrQuery) query);
+        } else if (query instanceof NotQuery) {
+            long negatedSize = plan(((NotQuery) query).getQuery()).getEstimatedSize();
+            return new QueryPlan.FullScan(persons, query, Math.max(0, persons.size() - negatedSize));
+        }
+        return new QueryPlan.FullScan(persons, query, estimateUnindexed(1));
+    }
+
+    private QueryPlan planField(FieldQuery query) {
+        switch (query.getField()) {
+        case NAME:
+            return planNameLookup(query);
+        case PHONE:
+            String digits = query.getPhoneDigits();
+            PhoneIndex.Match match = query.getPhoneMatch();
+            return new QueryPlan.IndexLookup(query.toString(), phoneIndex.count(digits, match), () ->
+                    phoneIndex.find(digits, match));
+        case TAG:
+            Tag tag = query.getTag();
+            return new QueryPlan.IndexLookup(query.toString(), tagIndex.count(tag), () -> tagIndex.find(tag));
+        default:
+            return new QueryPlan.FullScan(persons, query, estimateUnindexed(DEFAULT_SELECTIVITY));
+        }
+    }
+
+    private QueryPlan planNameLookup(FieldQuery query) {
+        List<String> words = query.getNameWords();
+        long estimatedSize = words.stream().mapToLong(word -> nameWordIndex.find(word).size()).min().orElse(0);
+        return new QueryPlan.IndexLookup(query.toString(), estimatedSize, () -> {
+            Set<Person> matches = new HashSet<>(nameWordIndex.find(words.get(0)));
+            words.subList(1, words.size()).forEach(word -> matches.retainAll(nameWordIndex.find(word)));
+            return matches;
+        });
+    }
+
+    private QueryPlan planAnd(AndQuery query) {
+        List<QueryPlan> indexed = new ArrayList<>();
+        List<Query> residual = new ArrayList<>();
+        double residualSelectivity = 1;
+        for (Query subquery : groupTagCombinations(query.getQueries(), AndQuery::new)) {
+            QueryPlan subplan = plan(subquery);
+            if (subplan.isIndexed()) {
+                indexed.add(subplan);
+            } else {
+                residual.add(subquery);
+                residualSelectivity *= getSelectivity(subplan);
+            }
+        }
+
+        if (indexed.isEmpty()) {
+            return new QueryPlan.FullScan(persons, query, estimateUnindexed(residualSelectivity));
+        }
+
+        indexed.sort(Comparator.comparingLong(QueryPlan::getEstimatedSize));
+        QueryPlan candidates = indexed.size() == 1 ? indexed.get(0) : new QueryPlan.Intersection(indexed);
+        if (residual.isEmpty()) {
+            return candidates;
+        }
+        Query residualQuery = residual.size() == 1 ? residual.get(0) : new AndQuery(residual);
+        return new QueryPlan.Filter(candidates, residualQuery,
+                Math.round(candidates.getEstimatedSize() * residualSelectivity));
+    }
+
+    private QueryPlan planOr(OrQuery query) {
+        List<QueryPlan> subplans = new ArrayList<>();
+        double noneSelectivity = 1;
+        long totalSize = 0;
+        for (Query subquery : groupTagCombinations(query.getQueries(), OrQuery::new)) {
+            QueryPlan subplan = plan(subquery);
+            subplans.add(subplan);
+            noneSelectivity *= 1 - getSelectivity(subplan);
+            totalSize += subplan.getEstimatedSize();
+        }
+
+        if (subplans.stream().allMatch(QueryPlan::isIndexed)) {
+            return new QueryPlan.Union(subplans, Math.min(persons.size(), totalSize));
+        }
+        return new QueryPlan.FullScan(persons, query, estimateUnindexed(1 - noneSelectivity));
+    }
+
+    /**
+     * Returns {@code queries} with the queries that only combine tag conditions replaced by one query that joins
+     * them with {@code join}, so that they are answered together by bitmap operations.
+     */
+    private List<Query> groupTagCombinations(List<Query> queries, Function<List<Query>, Query> join) {
+        List<Query> tagQueries = new ArrayList<>();
+        List<Query> grouped = new ArrayList<>();
+        for (Query query : queries) {
+            (isTagCombination(query) ? tagQueries : grouped).add(query);
+        }
+        if (tagQueries.size() < 2) {
+            return queries;
+        }
+        grouped.add(0, join.apply(tagQueries));
+        return grouped;
+    }
+
+    /**
+     * Returns true if {@code query} only combines conditions on tags.
+     */
+    private static boolean isTagCombination(Query query) {
+        if (query instanceof FieldQuery) {
+            return ((FieldQuery) query).getField() == FieldQuery.Field.TAG;
+        } else if (query instanceof AndQuery) {
+            return ((AndQuery) query).getQueries().stream().allMatch(QueryPlanner::isTagCombination);
+        } else if (query instanceof OrQuery) {
+            return ((OrQuery) query).getQueries().stream().allMatch(QueryPlanner::isTagCombination);
+        } else if (query instanceof NotQuery) {
+            return isTagCombination(((NotQuery) query).getQuery());
+        }
+        return false;
+    }
+
+    /**
+     * Answers a combination of tag conditions with bitmap operations. The result is computed while planning, so
+     * the estimate of the plan is exact.
+     */
+    private QueryPlan planTagCombination(Query query) {
+        CompressedBitmap slots = findTagSlots(query);
+        return new QueryPlan.IndexLookup(query.toString(), slots.getCardinality(), () -> tagIndex.toPersons(slots));
+    }
+
+    private CompressedBitmap findTagSlots(Query query) {
+        if (query instanceof FieldQuery) {
+            return tagIndex.getSlots(((FieldQuery) query).getTag());
+        } else if (query instanceof AndQuery) {
+            return ((AndQuery) query).getQueries().stream().map(this::findTagSlots)
+                    .reduce(CompressedBitmap::and).orElseThrow();
+        } else if (query instanceof OrQuery) {
+            return ((OrQuery) query).getQueries().stream().map(this::findTagSlots)
+                    .reduce(CompressedBitmap::or).orElseThrow();
+        }
+        return tagIndex.getAllSlots().andNot(findTagSlots(((NotQuery) query).getQuery()));
+    }
+
+    private double getSelectivity(QueryPlan plan) {
+        return persons.isEmpty() ? 0 : (double) plan.getEstimatedSize() / persons.size();
+    }
+
+    private long estimateUnindexed(double selectivity) {
+        return Math.round(persons.size() * selectivity);
+    }
+}
@@ -3,6 +3,12 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +18,14 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /**
+     * The shared instance of every tag name in use, so that persons with the same tag share one {@code Tag}.
+     * The instances are only weakly referenced, and the entry of a tag no longer in use is removed once the garbage
+     * collector has cleared it.
+     */
+    private static final Map<String, TagReference> internedTags = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Tag> clearedTags = new ReferenceQueue<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +39,52 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with {@code tagName}, creating it the first time the name is seen.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        TagReference reference = internedTags.get(tagName);
+        Tag tag = reference == null ? null : reference.get();
+        return tag != null ? tag : intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to {@code tag}, making {@code tag} the shared one if there is none.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        // most tags are already shared, so look them up before creating a reference to share a new one
+        TagReference reference = internedTags.get(tag.tagName);
+        Tag shared = reference == null ? null : reference.get();
+        if (shared != null) {
+            return shared;
+        }
+
+        removeClearedTags();
+        while (true) {
+            TagReference existing = internedTags.putIfAbsent(tag.tagName, new TagReference(tag, clearedTags));
+            if (existing == null) {
+                return tag;
+            }
+            Tag interned = existing.get();
+            if (interned != null) {
+                return interned;
+            }
+            // the shared tag has been collected, but its entry is not removed yet
+            internedTags.remove(tag.tagName, existing);
+        }
+    }
+
+    private static void removeClearedTags() {
+        Reference<? extends Tag> cleared;
+        while ((cleared = clearedTags.poll()) != null) {
+            internedTags.remove(((TagReference) cleared).tagName, cleared);
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -51,4 +111,17 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to a shared {@code Tag} that remembers its name, so that its entry can be removed once the
+     * tag has been collected.
+     */
+    private static class TagReference extends WeakReference<Tag> {
+        private final String tagName;
+
+        TagReference(Tag tag, ReferenceQueue<Tag> queue) {
+            super(tag, queue);
+            this.tagName = tag.tagName;
+        }
+    }
+
 }
@@ -2,10 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +33,17 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the persons of the AddressBook in chunks of at most {@code chunkSize} persons, passing each chunk to
+     * {@code chunkConsumer} as soon as it is decoded.
+     * @return false if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     *     Chunks decoded before the error have already been passed to {@code chunkConsumer}.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    boolean readAddressBookInChunks(int chunkSize, Consumer<List<Person>> chunkConsumer)
+            throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
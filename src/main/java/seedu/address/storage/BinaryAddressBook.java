@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An unmodifiable address book read from a binary snapshot file, whose persons stay encoded until they are read.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: the magic number {@code AB3M}, the format version and
+ * the number of persons. It is followed by a table with the offset of every person's record, and an extra offset
+ * that marks the end of the file, and then by the records. A record holds the name, phone, email and address,
+ * followed by the number of tags and the tags, each string as its length in bytes and its UTF-8 bytes. All
+ * integers are 4-byte big-endian.
+ * <p>
+ * Reading the file loads its bytes into the heap and checks the header, without decoding any person. A person is
+ * decoded from its record each time it is read, and is not kept. This is experimental: the file must be smaller than
+ * 2 GiB, and a damaged record is only found when it is read.
+ */
+public class BinaryAddressBook implements ReadOnlyAddressBook {
+
+    static final int MAGIC = 0x4142334D;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+
+    static final String MESSAGE_INVALID_HEADER = "Not a binary address book, or from an unsupported version";
+    static final String MESSAGE_INVALID_RECORD = "Person record %1$d is damaged";
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private ObservableList<Person> personList;
+
+    private BinaryAddressBook(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Reads the file at {@code filePath} and checks its header. The file is closed once this returns.
+     *
+     * @throws DataConversionException if the file is not a binary address book.
+     * @throws IOException if the file cannot be read.
+     */
+    public static BinaryAddressBook read(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        long fileSize = Files.size(filePath);
+        if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_HEADER));
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int size = buffer.getInt(8);
+        long tableEnd = HEADER_SIZE + 4L * (size + 1L);
+        boolean isValid = buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION
+                && size >= 0 && tableEnd <= buffer.limit()
+                && buffer.getInt(HEADER_SIZE) == tableEnd
+                && buffer.getInt(HEADER_SIZE + 4 * size) == buffer.limit();
+        if (!isValid) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_HEADER));
+        }
+        return new BinaryAddressBook(buffer, size);
+    }
+
+    /**
+     * Returns the number of persons.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Decodes the person at the zero-based {@code index}.
+     *
+     * @throws IllegalArgumentException if the record of the person is damaged.
+     */
+    public Person getPerson(int index) {
+        Objects.checkIndex(index, size);
+        int start = buffer.getInt(HEADER_SIZE + 4 * index);
+        int end = buffer.getInt(HEADER_SIZE + 4 * (index + 1));
+        if (start < HEADER_SIZE || start > end || end > buffer.limit()) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_RECORD, index));
+        }
+
+        ByteBuffer record = buffer.duplicate();
+        record.position(start).limit(end);
+        try {
+            Name name = new Name(readString(record));
+            Phone phone = new Phone(readString(record));
+            Email email = new Email(readString(record));
+            Address address = new Address(readString(record));
+            int tagCount = record.getInt();
+            List<Tag> tags = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(Tag.of(readString(record)));
+            }
+            return new Person(name, phone, email, address, TagSet.of(tags));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_RECORD, index), e);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons list, which decodes each person as it is read.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonView()));
+        }
+        return personList;
+    }
+
+    @Override
+    public String toString() {
+        return size + " persons";
+    }
+
+    private static String readString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0 || length > record.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The persons of this address book as a list.
+     */
+    private class PersonView extends AbstractList<Person> implements RandomAccess {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
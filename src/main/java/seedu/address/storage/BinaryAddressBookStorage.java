@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageReadEvent;
+import seedu.address.commons.jfr.StorageSaveEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An experimental class to access AddressBook data stored as a {@link BinaryAddressBook} snapshot file on the hard
+ * disk, which is decoded without parsing any JSON.
+ * <p>
+ * If there is no binary file yet, the address book is read from the JSON data file at the import path, if any, and
+ * the next save writes it as a binary file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The extension of binary address book files, which replaces the extension of the JSON data file. */
+    public static final String FILE_EXTENSION = ".ab3";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private Path importFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that reads the JSON data file at {@code importFilePath} while there is no file at
+     * {@code filePath}. {@code importFilePath} may be null if there is nothing to import.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path importFilePath) {
+        this.filePath = filePath;
+        this.importFilePath = importFilePath;
+    }
+
+    /**
+     * Returns the path of the binary address book file that sits next to the data file at {@code dataFilePath}.
+     */
+    public static Path getBinaryFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return isImporting(filePath) ? getImportStorage().readAddressBook() : Optional.empty();
+        }
+
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        BinaryAddressBook addressBook = BinaryAddressBook.read(filePath);
+        commitEvent(event, filePath);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public boolean readAddressBookInChunks(int chunkSize, Consumer<List<Person>> chunkConsumer)
+            throws DataConversionException, IOException {
+        requireNonNull(chunkConsumer);
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            return isImporting(filePath) && getImportStorage().readAddressBookInChunks(chunkSize, chunkConsumer);
+        }
+
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        BinaryAddressBook addressBook = BinaryAddressBook.read(filePath);
+        for (int start = 0; start < addressBook.size(); start += chunkSize) {
+            List<Person> chunk = new ArrayList<>(chunkSize);
+            try {
+                for (int i = start; i < Math.min(start + chunkSize, addressBook.size()); i++) {
+                    chunk.add(addressBook.getPerson(i));
+                }
+            } catch (IllegalArgumentException e) {
+                logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+                throw new DataConversionException(new IllegalValueException(e.getMessage(), e));
+            }
+            chunkConsumer.accept(chunk);
+        }
+        commitEvent(event, filePath);
+        return true;
+    }
+
+    private boolean isImporting(Path filePath) {
+        return filePath.equals(this.filePath) && importFilePath != null && FileUtil.isFileExists(importFilePath);
+    }
+
+    private JsonAddressBookStorage getImportStorage() {
+        logger.info("No binary address book at " + filePath + ", importing " + importFilePath);
+        return new JsonAddressBookStorage(importFilePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written next to {@code filePath} and then moved over it, so that a failed save does not damage the
+     * old file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        List<Person> persons = addressBook.getPersonList();
+        int tableEnd = BinaryAddressBook.HEADER_SIZE + 4 * (persons.size() + 1);
+        ByteBuffer header = ByteBuffer.allocate(tableEnd);
+        header.putInt(BinaryAddressBook.MAGIC).putInt(BinaryAddressBook.VERSION).putInt(persons.size());
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath)))) {
+            // the header is written last, once the offsets of the records are known
+            out.write(new byte[tableEnd]);
+            for (Person person : persons) {
+                header.putInt(out.size());
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                out.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    writeString(out, tag.tagName);
+                }
+            }
+            header.putInt(out.size());
+        }
+
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+        Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        commitEvent(event, filePath);
+    }
+
+    /**
+     * Ends {@code event} and commits it with the path and size of the file at {@code filePath}, if it is enabled.
+     */
+    private static void commitEvent(StorageReadEvent event, Path filePath) throws IOException {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath.toString();
+            event.bytes = Files.size(filePath);
+            event.commit();
+        }
+    }
+
+    /**
+     * Similar to {@link #commitEvent(StorageReadEvent, Path)}.
+     */
+    private static void commitEvent(StorageSaveEvent event, Path filePath) throws IOException {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath.toString();
+            event.bytes = Files.size(filePath);
+            event.commit();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
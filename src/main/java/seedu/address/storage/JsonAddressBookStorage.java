@@ -3,16 +3,26 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageReadEvent;
+import seedu.address.commons.jfr.StorageSaveEvent;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -45,6 +55,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
@@ -52,13 +64,71 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<ReadOnlyAddressBook> addressBook = Optional.of(jsonAddressBook.get().toModelType());
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = filePath.toString();
+                event.bytes = sizeOf(filePath);
+                event.commit();
+            }
+            return addressBook;
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    @Override
+    public boolean readAddressBookInChunks(int chunkSize, Consumer<List<Person>> chunkConsumer)
+            throws DataConversionException {
+        return readAddressBookInChunks(filePath, chunkSize, chunkConsumer);
+    }
+
+    /**
+     * Similar to {@link #readAddressBookInChunks(int, Consumer)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public boolean readAddressBookInChunks(Path filePath, int chunkSize, Consumer<List<Person>> chunkConsumer)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(chunkConsumer);
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        // persons are the same if they have the same name, see Person#isSamePerson
+        Set<Name> names = new HashSet<>();
+        List<Person> chunk = new ArrayList<>(chunkSize);
+        boolean isFound = JsonUtil.readJsonArrayElements(filePath, JsonSerializableAddressBook.PERSONS_FIELD_NAME,
+                JsonAdaptedPerson.class, jsonAdaptedPerson -> {
+                    Person person = jsonAdaptedPerson.toModelType();
+                    if (!names.add(person.getName())) {
+                        logger.info("Illegal values found in " + filePath + ": "
+                                + JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    chunk.add(person);
+                    if (chunk.size() == chunkSize) {
+                        chunkConsumer.accept(new ArrayList<>(chunk));
+                        chunk.clear();
+                    }
+                });
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+        event.end();
+        if (isFound && event.shouldCommit()) {
+            event.path = filePath.toString();
+            event.bytes = sizeOf(filePath);
+            event.commit();
+        }
+        return isFound;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +143,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath.toString();
+            event.bytes = sizeOf(filePath);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath}, or -1 if it cannot be determined.
+     */
+    private static long sizeOf(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
 }
@@ -1,9 +1,19 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,20 +25,42 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration LIVE_SEARCH_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final ContextMenu suggestions = new ContextMenu();
+    private final PauseTransition liveSearchDelay = new PauseTransition(LIVE_SEARCH_DELAY);
+    private boolean isApplyingSuggestion;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CompletionProvider} and
+     * {@code LiveSearcher}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider,
+            LiveSearcher liveSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.completionProvider = completionProvider;
+        // the live search only runs once the text has not changed for LIVE_SEARCH_DELAY
+        liveSearchDelay.setOnFinished(event -> liveSearcher.search(commandTextField.getText()));
+        // calls #setStyleToDefault(), updates the suggestions and restarts the live search delay whenever there is
+        // a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            updateSuggestions(newText);
+            liveSearchDelay.playFromStart();
+        });
+        // the Tab key accepts the first suggestion
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && suggestions.isShowing() && !suggestions.getItems().isEmpty()) {
+                suggestions.getItems().get(0).fire();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -42,6 +74,7 @@ public class CommandBox extends UiPart<Region> {
         }
 
         try {
+            liveSearchDelay.stop();
             commandExecutor.execute(commandText);
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
@@ -49,6 +82,42 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Shows the completions of {@code commandText} below the command box, or hides them if there are none.
+     */
+    private void updateSuggestions(String commandText) {
+        List<String> completions = isApplyingSuggestion || commandText.isEmpty()
+                ? List.of()
+                : completionProvider.getCompletions(commandText);
+        if (completions.isEmpty()) {
+            suggestions.hide();
+            return;
+        }
+
+        suggestions.getItems().setAll(completions.stream()
+                .map(this::createSuggestionItem)
+                .collect(Collectors.toList()));
+        if (!suggestions.isShowing()) {
+            suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Creates a menu item that shows the last word of {@code completion}, and replaces the command text with
+     * {@code completion} when chosen.
+     */
+    private MenuItem createSuggestionItem(String completion) {
+        MenuItem item = new MenuItem(completion.substring(completion.lastIndexOf(' ') + 1));
+        item.setOnAction(event -> {
+            isApplyingSuggestion = true;
+            commandTextField.setText(completion);
+            isApplyingSuggestion = false;
+            commandTextField.positionCaret(completion.length());
+            suggestions.hide();
+        });
+        return item;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +151,30 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of partially typed commands.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the suggested completions of {@code commandText}, each of which is a whole command text.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String, int)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
+    /**
+     * Represents a function that filters the displayed persons by a partially typed command.
+     */
+    @FunctionalInterface
+    public interface LiveSearcher {
+        /**
+         * Starts filtering the displayed persons by {@code commandText}, in the background.
+         *
+         * @see seedu.address.logic.Logic#updateLiveSearch(String)
+         */
+        void search(String commandText);
+    }
+
 }
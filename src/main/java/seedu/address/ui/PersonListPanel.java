@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.PersonCardCreationEvent;
 import seedu.address.model.person.Person;
 
 /**
@@ -41,7 +42,12 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                PersonCardCreationEvent event = new PersonCardCreationEvent();
+                event.begin();
+                PersonCard card = new PersonCard(person, getIndex() + 1);
+                event.displayedIndex = getIndex() + 1;
+                event.commit();
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -18,11 +19,20 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label saveLocationStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which also shows {@code loadStatus}
+     * while it is not empty.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<String> loadStatus) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        String saveLocationText = Paths.get(".").resolve(saveLocation).toString();
+        showStatus(saveLocationText, loadStatus.getValue());
+        loadStatus.addListener((observable, oldStatus, newStatus) -> showStatus(saveLocationText, newStatus));
+    }
+
+    private void showStatus(String saveLocationText, String loadStatus) {
+        saveLocationStatus.setText(loadStatus == null || loadStatus.isEmpty()
+                ? saveLocationText
+                : saveLocationText + " | " + loadStatus);
     }
 
 }
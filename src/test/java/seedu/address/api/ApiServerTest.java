@@ -0,0 +1,210 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private ExecutorService logicThread = Executors.newSingleThreadExecutor();
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), logicThread, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        logicThread.shutdownNow();
+    }
+
+    @Test
+    public void getPersons_page_returnsRequestedSlice() throws IOException {
+        Response response = request("GET", ApiServer.PERSONS_PATH + "?offset=1&limit=2", null);
+        assertEquals(200, response.status);
+        assertEquals(model.getFilteredPersonList().size(), response.body.get("total"));
+        assertEquals(1, response.body.get("offset"));
+
+        List<?> persons = (List<?>) response.body.get("persons");
+        assertEquals(2, persons.size());
+        assertEquals(BENSON.getName().fullName, ((Map<?, ?>) persons.get(0)).get("name"));
+        assertEquals(2, ((Map<?, ?>) persons.get(0)).get("index"));
+    }
+
+    @Test
+    public void getPersons_invalidPage_badRequest() throws IOException {
+        assertEquals(400, request("GET", ApiServer.PERSONS_PATH + "?limit=0", null).status);
+        assertEquals(400, request("GET", ApiServer.PERSONS_PATH + "?offset=a", null).status);
+    }
+
+    @Test
+    public void getPersonPages_pageTokens_pagesOfSnapshot() throws IOException {
+        Response first = request("GET", ApiServer.PERSON_PAGES_PATH + "?limit=3", null);
+        assertEquals(200, first.status);
+        assertEquals(List.of(ALICE.getName().fullName, BENSON.getName().fullName, CARL.getName().fullName),
+                getNames(first));
+
+        // pages after the first are not shifted by later changes
+        request("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"delete 1\"}");
+        String secondPath = ApiServer.PERSON_PAGES_PATH + "?limit=3&pageToken=" + first.body.get("nextPageToken");
+        Response second = request("GET", secondPath, null);
+        assertEquals(3, second.body.get("offset"));
+        assertEquals(List.of(DANIEL.getName().fullName, ELLE.getName().fullName, FIONA.getName().fullName),
+                getNames(second));
+        assertEquals(second.body, request("GET", secondPath, null).body);
+
+        Response last = request("GET", ApiServer.PERSON_PAGES_PATH + "?limit=3&pageToken="
+                + second.body.get("nextPageToken"), null);
+        assertEquals(List.of(GEORGE.getName().fullName), getNames(last));
+        assertNull(last.body.get("nextPageToken"));
+    }
+
+    @Test
+    public void getPersonPages_invalidPageToken_badRequest() throws IOException {
+        Response response = request("GET", ApiServer.PERSON_PAGES_PATH + "?pageToken=abc-3", null);
+        assertEquals(400, response.status);
+        assertEquals(String.format(ApiServer.MESSAGE_INVALID_PAGE_TOKEN, "abc-3"), response.body.get("error"));
+        assertEquals(400, request("GET", ApiServer.PERSON_PAGES_PATH + "?limit=501", null).status);
+    }
+
+    @Test
+    public void getPerson_validIndex_returnsPerson() throws IOException {
+        Response response = request("GET", ApiServer.PERSONS_PATH + "/1", null);
+        assertEquals(200, response.status);
+        assertEquals(ALICE.getName().fullName, response.body.get("name"));
+        assertEquals(ALICE.getPhone().value, response.body.get("phone"));
+    }
+
+    @Test
+    public void getPerson_invalidIndex_notFound() throws IOException {
+        assertEquals(404, request("GET", ApiServer.PERSONS_PATH + "/100", null).status);
+        assertEquals(404, request("GET", ApiServer.PERSONS_PATH + "/0", null).status);
+    }
+
+    @Test
+    public void postCommand_validCommand_executed() throws IOException {
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+        Response response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"delete 1\"}");
+        assertEquals(200, response.status);
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, ALICE),
+                response.body.get("feedbackToUser"));
+        assertEquals(sizeBefore - 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws IOException {
+        Response response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"unknown\"}");
+        assertEquals(400, response.status);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, response.body.get("error"));
+
+        assertEquals(400, request("POST", ApiServer.COMMANDS_PATH, "not json").status);
+        assertEquals(405, request("GET", ApiServer.COMMANDS_PATH, null).status);
+    }
+
+    @Test
+    public void request_logicFails_internalError() throws IOException {
+        server.stop();
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage) {
+            @Override
+            public CommandResult execute(String commandText) {
+                throw new IllegalStateException("broken");
+            }
+
+            @Override
+            public ObservableList<Person> getFilteredPersonList() {
+                throw new IllegalStateException("broken");
+            }
+        }, logicThread, 0, 2);
+        server.start();
+
+        Response response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"list\"}");
+        assertEquals(500, response.status);
+        assertEquals(String.format(ApiServer.MESSAGE_INTERNAL_ERROR, "broken"), response.body.get("error"));
+        assertEquals(500, request("GET", ApiServer.PERSONS_PATH, null).status);
+        assertEquals(500, request("GET", ApiServer.PERSONS_PATH + "/1", null).status);
+    }
+
+    private static List<Object> getNames(Response response) {
+        return ((List<?>) response.body.get("persons")).stream()
+                .map(person -> ((Map<?, ?>) person).get("name")).collect(Collectors.toList());
+    }
+
+    private Response request(String method, String path, String body) throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        return new Response(status, JsonUtil.fromJsonString(json, Map.class));
+    }
+
+    private static class Response {
+        private final int status;
+        private final Map<?, ?> body;
+
+        private Response(int status, Map<?, ?> body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
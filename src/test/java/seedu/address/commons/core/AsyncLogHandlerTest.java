@@ -0,0 +1,166 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    private final CapturingHandler target = new CapturingHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        target.release.countDown();
+        handler.close();
+    }
+
+    @Test
+    public void publish_thenFlush_recordsWrittenInOrder() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(record(i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), target.messages.get(i));
+        }
+        assertTrue(target.isFlushed);
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        handler.setLevel(Level.WARNING);
+        handler.publish(record(1));
+        handler.flush();
+
+        assertTrue(target.messages.isEmpty());
+        assertEquals(Level.WARNING, target.getLevel());
+    }
+
+    @Test
+    public void publish_bufferFullDropNewest_newestDropped() throws InterruptedException {
+        handler = new AsyncLogHandler(4, OverflowPolicy.DROP_NEWEST, target);
+        handler.publish(record(0));
+        target.blocked.await(); // record 0 is being written, so the buffer is empty
+        for (int i = 1; i <= 6; i++) {
+            handler.publish(record(i));
+        }
+        target.release.countDown();
+        handler.flush();
+
+        assertEquals(2, handler.getDroppedCount());
+        assertEquals(6, target.messages.size());
+        assertTrue(target.messages.get(1).startsWith("2 log records were dropped"));
+        assertEquals(List.of("1", "2", "3", "4"), target.messages.subList(2, 6));
+    }
+
+    @Test
+    public void publish_bufferFullDropOldest_oldestDropped() throws InterruptedException {
+        handler = new AsyncLogHandler(4, OverflowPolicy.DROP_OLDEST, target);
+        handler.publish(record(0));
+        target.blocked.await();
+        for (int i = 1; i <= 6; i++) {
+            handler.publish(record(i));
+        }
+        target.release.countDown();
+        handler.flush();
+
+        assertEquals(2, handler.getDroppedCount());
+        assertEquals(List.of("3", "4", "5", "6"), target.messages.subList(2, 6));
+    }
+
+    @Test
+    public void close_queuedRecords_writtenAndTargetClosed() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        handler.publish(record(0));
+        handler.close();
+        assertEquals(List.of("0"), target.messages);
+        assertTrue(target.isClosed);
+
+        // records published after closing are written synchronously
+        handler.publish(record(1));
+        assertEquals(List.of("0", "1"), target.messages);
+    }
+
+    @Test
+    public void close_concurrentPublishers_noRecordLost() throws InterruptedException {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        List<Thread> publishers = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            Thread publisher = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 1_000; i++) {
+                    handler.publish(record(i));
+                }
+            });
+            publishers.add(publisher);
+            publisher.start();
+        }
+        started.await();
+        handler.close();
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        assertEquals(4_000, target.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    private static LogRecord record(int message) {
+        return new LogRecord(Level.INFO, String.valueOf(message));
+    }
+
+    /**
+     * A handler that keeps the messages it receives, and blocks on the first one until released.
+     */
+    private static class CapturingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    @Test
+    public void constructor_invalidRange_throwsException() {
+        assertThrows(NullPointerException.class, () -> new IndexRange(null, Index.fromOneBased(1)));
+        assertThrows(IllegalArgumentException.class, IndexRange.MESSAGE_CONSTRAINTS, ()
+            -> new IndexRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void of_index_coversOnlyIndex() {
+        IndexRange range = IndexRange.of(Index.fromOneBased(4));
+        assertEquals(Index.fromOneBased(4), range.getStart());
+        assertEquals(Index.fromOneBased(4), range.getEnd());
+        assertEquals("4", range.toString());
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = new IndexRange(Index.fromOneBased(2), Index.fromOneBased(5));
+
+        // same values -> returns true
+        assertTrue(range.equals(new IndexRange(Index.fromZeroBased(1), Index.fromZeroBased(4))));
+        assertEquals(range.hashCode(), new IndexRange(Index.fromOneBased(2), Index.fromOneBased(5)).hashCode());
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different start or end -> returns false
+        assertFalse(range.equals(new IndexRange(Index.fromOneBased(1), Index.fromOneBased(5))));
+        assertFalse(range.equals(new IndexRange(Index.fromOneBased(2), Index.fromOneBased(6))));
+
+        assertEquals("2-5", range.toString());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -39,6 +41,21 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void isJsonFileUpToDate() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertTrue(JsonUtil.isJsonFileUpToDate(serializableTestClass, SERIALIZATION_FILE));
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+        assertFalse(JsonUtil.isJsonFileUpToDate(serializableTestClass, SERIALIZATION_FILE));
+
+        assertFalse(JsonUtil.isJsonFileUpToDate(serializableTestClass,
+                TestUtil.getFilePathInSandboxFolder("nonExistent.json")));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelScanTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = number -> number % 3 == 0;
+
+    @Test
+    public void findMatches_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelScan.findMatches(null, IS_MULTIPLE_OF_THREE));
+        assertThrows(NullPointerException.class, () -> ParallelScan.findMatches(List.of(1), null));
+    }
+
+    @Test
+    public void findMatches_smallList_positionsInOrder() {
+        assertArrayEquals(new int[0], ParallelScan.findMatches(List.<Integer>of(), IS_MULTIPLE_OF_THREE));
+        assertArrayEquals(new int[] {1, 3}, ParallelScan.findMatches(List.of(1, 3, 4, 6), IS_MULTIPLE_OF_THREE));
+        assertArrayEquals(new int[] {0, 2},
+                ParallelScan.findMatches(new LinkedList<>(List.of(9, 1, 12)), IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void findMatches_scannedInParallel_sameAsSequential() {
+        // sizes around the chunk size, so that the last chunk is partial, full and a single element
+        for (int size : new int[] {0, 1, ParallelScan.CHUNK_SIZE, ParallelScan.CHUNK_SIZE * 5 + 1, 100_003}) {
+            List<Integer> numbers = createNumbers(size);
+            int[] expected = IntStream.range(0, size).filter(i -> numbers.get(i) % 3 == 0).toArray();
+            assertArrayEquals(expected, ParallelScan.findMatches(numbers, IS_MULTIPLE_OF_THREE, 0));
+            assertArrayEquals(expected, ParallelScan.findMatches(new LinkedList<>(numbers), IS_MULTIPLE_OF_THREE, 0));
+        }
+        List<Integer> numbers = createNumbers(ParallelScan.SEQUENTIAL_THRESHOLD * 2);
+        assertArrayEquals(ParallelScan.findMatches(numbers, IS_MULTIPLE_OF_THREE, Integer.MAX_VALUE),
+                ParallelScan.findMatches(numbers, IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void findMatches_predicateThrows_exceptionRethrown() {
+        List<Integer> numbers = createNumbers(ParallelScan.CHUNK_SIZE * 8);
+        assertThrows(IllegalStateException.class, () -> ParallelScan.findMatches(numbers, number -> {
+            if (number == ParallelScan.CHUNK_SIZE * 6) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }, 0));
+    }
+
+    /**
+     * Returns {@code size} numbers below {@code size} in a scrambled order, so that matches are not evenly spread.
+     */
+    private static List<Integer> createNumbers(int size) {
+        List<Integer> numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            numbers.add((int) ((i * 2654435761L) % Math.max(size, 1)));
+        }
+        return numbers;
+    }
+}
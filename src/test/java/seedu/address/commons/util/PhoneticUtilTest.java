@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.commons.util.PhoneticUtil.getPhoneticKey;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticUtilTest {
+
+    @Test
+    public void getPhoneticKey_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> getPhoneticKey(null));
+    }
+
+    @Test
+    public void getPhoneticKey_soundAlikeWords_sameKey() {
+        assertEquals("SM0", getPhoneticKey("Smith"));
+        assertEquals("SM0", getPhoneticKey("smyth"));
+        assertEquals("K0RN", getPhoneticKey("Catherine"));
+        assertEquals("K0RN", getPhoneticKey("Kathryn"));
+        assertEquals("FLP", getPhoneticKey("Philip"));
+        assertEquals("FLP", getPhoneticKey("Phillip"));
+        assertEquals("STFN", getPhoneticKey("Stephen"));
+        assertEquals("STFN", getPhoneticKey("Steven"));
+        assertEquals("MR", getPhoneticKey("Meier"));
+        assertEquals("MR", getPhoneticKey("Meyer"));
+        assertEquals("JN", getPhoneticKey("John"));
+        assertEquals("JN", getPhoneticKey("Jon"));
+        assertEquals("SKMT", getPhoneticKey("Schmidt"));
+        assertEquals("SKMT", getPhoneticKey("Schmitt"));
+    }
+
+    @Test
+    public void getPhoneticKey_silentAndInitialLetters_handled() {
+        assertEquals("NT", getPhoneticKey("Knight")); // silent k and gh
+        assertEquals("NT", getPhoneticKey("Nite"));
+        assertEquals("SN", getPhoneticKey("Xena")); // initial x
+        assertEquals("WTFL", getPhoneticKey("Whitfield")); // initial wh, cut to the maximum length
+        assertEquals("EJ", getPhoneticKey("Edge"));
+        assertEquals("A", getPhoneticKey("Ai"));
+        assertEquals("", getPhoneticKey("123")); // no letters
+        assertNotEquals(getPhoneticKey("Kurz"), getPhoneticKey("Kunz"));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -8,6 +9,8 @@ import java.io.FileNotFoundException;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.TestUtil;
+
 public class StringUtilTest {
 
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
@@ -123,6 +126,35 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_repeatedCalls_nothingAllocated() {
+        assertTrue(TestUtil.getAllocatedBytes(() ->
+                StringUtil.containsWordIgnoreCase("  AAA   bBb   ccc  ", " ccc "), 100_000) < 100_000);
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", "", 0)); // Boundary case
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alcie", 2)); // Transposition
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise", 2)); // Substitution
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce", 2)); // Deletion
+        assertEquals(2, StringUtil.getEditDistance("alice", "alicia", 2));
+        assertEquals(2, StringUtil.getEditDistance("", "ab", 2));
+
+        // more than maxDistance edits
+        assertEquals(3, StringUtil.getEditDistance("alice", "bob", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alicia", 0));
+        assertEquals(3, StringUtil.getEditDistance("alice", "alexander", 2)); // Lengths too different
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
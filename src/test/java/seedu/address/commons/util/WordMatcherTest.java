@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TestUtil;
+
+public class WordMatcherTest {
+
+    @Test
+    public void constructor_invalidKeywords_throwsException() {
+        assertThrows(NullPointerException.class, () -> new WordMatcher(null));
+        assertThrows(IllegalArgumentException.class, () -> new WordMatcher(List.of("  ")));
+        assertThrows(IllegalArgumentException.class, () -> new WordMatcher(List.of("aaa bbb")));
+    }
+
+    @Test
+    public void matchesAny() {
+        WordMatcher matcher = new WordMatcher(List.of("bBb", " ccc@1 "));
+        assertTrue(matcher.matchesAny("aaa BBB"));
+        assertTrue(matcher.matchesAny("  CCC@1\t"));
+        assertFalse(matcher.matchesAny("aaa bb bbbb ccc"));
+        assertFalse(matcher.matchesAny(""));
+        assertFalse(new WordMatcher(List.of()).matchesAny("aaa"));
+    }
+
+    @Test
+    public void matchesAll() {
+        WordMatcher matcher = new WordMatcher(List.of("alice", "BOB"));
+        assertTrue(matcher.matchesAll("Bob the builder and ALICE"));
+        assertFalse(matcher.matchesAll("Alice Bobby"));
+        assertTrue(new WordMatcher(List.of()).matchesAll("aaa"));
+
+        // more keywords than can be tracked in one pass
+        List<String> manyKeywords = Collections.nCopies(Long.SIZE + 1, "aaa");
+        assertTrue(new WordMatcher(manyKeywords).matchesAll("AAA"));
+        assertFalse(new WordMatcher(manyKeywords).matchesAll("bbb"));
+    }
+
+    @Test
+    public void matches_repeatedCalls_nothingAllocated() {
+        WordMatcher matcher = new WordMatcher(List.of("meier", "kurz", "best"));
+        assertTrue(TestUtil.getAllocatedBytes(() -> matcher.matchesAny("Benson Meier"), 100_000) < 100_000);
+        assertTrue(TestUtil.getAllocatedBytes(() -> matcher.matchesAll("George Best Kurz Meier"), 100_000)
+                < 100_000);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final List<Runnable> modelTasks = new ArrayList<>();
+
+    @Test
+    public void start_chunksRead_addedOnModelThread() throws Exception {
+        AddressBook addressBook = largeAddressBook(AddressBookLoader.CHUNK_SIZE * 2 + 1);
+        AddressBookLoader loader = new AddressBookLoader(model, modelTasks::add);
+        loader.start(storageWith(addressBook), Runnable::run);
+
+        // nothing is added until the model thread runs
+        assertEquals(0, model.getFilteredPersonList().size());
+        assertEquals(1, modelTasks.size());
+
+        runModelTasks();
+        assertTrue(loader.isComplete());
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals("", loader.getStatus().getValue());
+    }
+
+    @Test
+    public void start_directExecutors_progressReported() throws Exception {
+        AddressBook addressBook = largeAddressBook(AddressBookLoader.CHUNK_SIZE + 1);
+        List<String> statuses = new ArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader(model, Runnable::run);
+        loader.getStatus().addListener((observable, oldStatus, newStatus) -> statuses.add(newStatus));
+        loader.start(storageWith(addressBook), Runnable::run);
+
+        assertTrue(loader.isComplete());
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(List.of(String.format(AddressBookLoader.MESSAGE_LOADING, 0),
+                String.format(AddressBookLoader.MESSAGE_LOADING, AddressBookLoader.CHUNK_SIZE),
+                String.format(AddressBookLoader.MESSAGE_LOADING, AddressBookLoader.CHUNK_SIZE + 1), ""), statuses);
+    }
+
+    @Test
+    public void awaitCompletion_loadInProgress_allPersonsAdded() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, modelTasks::add);
+        loader.start(storageWith(getTypicalAddressBook()), Runnable::run);
+        assertFalse(loader.isComplete());
+
+        loader.awaitCompletion();
+        assertTrue(loader.isComplete());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        // the scheduled tasks do not add the persons again
+        runModelTasks();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void start_missingFile_sampleAddressBookLoaded() {
+        AddressBookLoader loader = new AddressBookLoader(model, Runnable::run);
+        loader.start(new JsonAddressBookStorage(temporaryFolder.resolve("missing.json")), Runnable::run);
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()), model.getAddressBook());
+    }
+
+    @Test
+    public void start_invalidFile_emptyAddressBookLoaded() {
+        AddressBookLoader loader = new AddressBookLoader(model, Runnable::run);
+        loader.start(new JsonAddressBookStorage(Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+                "invalidAndValidPersonAddressBook.json")), Runnable::run);
+        assertTrue(loader.isComplete());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    private JsonAddressBookStorage storageWith(AddressBook addressBook) throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(addressBook);
+        return storage;
+    }
+
+    private void runModelTasks() {
+        while (!modelTasks.isEmpty()) {
+            modelTasks.remove(0).run();
+        }
+    }
+
+    private static AddressBook largeAddressBook(int size) {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.withPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandCompleterTest {
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandCompleter completer = new CommandCompleter(model);
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(List.of("delete"), completer.complete("de", 5));
+        assertEquals(List.of("edit", "exit"), completer.complete("e", 5));
+        assertEquals(List.of(), completer.complete("delete", 5));
+        assertEquals(List.of(), completer.complete("", 5));
+    }
+
+    @Test
+    public void complete_tagName() {
+        // "friends" is used by more typical persons than "owesMoney"
+        assertEquals(List.of("edit 1 t/friends"), completer.complete("edit 1 t/fr", 5));
+        assertEquals(List.of("add n/Bob t/owesMoney"), completer.complete("add n/Bob t/o", 5));
+    }
+
+    @Test
+    public void complete_nameWord() {
+        assertEquals(List.of("find Alice"), completer.complete("find al", 5));
+        assertEquals(List.of("find alice Benson", "find alice Best"), completer.complete("find alice be", 5));
+        assertEquals(List.of("add n/Benson"), completer.complete("add n/Ben", 5));
+        assertEquals(List.of(), completer.complete("delete al", 5));
+        assertEquals(List.of(), completer.complete("find ", 5));
+    }
+
+    @Test
+    public void complete_afterModelChange_indexUpdated() {
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        assertEquals(List.of(), completer.complete("find ali", 5));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class LiveSearchTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> modelTasks = new ArrayList<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor();
+    private final LiveSearch liveSearch = new LiveSearch(model, modelTasks::add, worker);
+
+    @AfterEach
+    public void tearDown() {
+        liveSearch.shutdown();
+    }
+
+    @Test
+    public void update_findCommand_filteredOnModelThread() throws Exception {
+        liveSearch.update("find meier");
+        awaitWorker();
+        // nothing is filtered until the model thread runs
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        runModelTasks();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_newerSearch_staleResultDiscarded() throws Exception {
+        liveSearch.update("find meier");
+        awaitWorker();
+        liveSearch.update("find meier kurz");
+        awaitWorker();
+
+        runModelTasks();
+        assertEquals(List.of(BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_notFindCommand_allPersonsShownAgain() throws Exception {
+        liveSearch.update("find meier");
+        awaitWorker();
+        runModelTasks();
+
+        liveSearch.update("find");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+        liveSearch.update("list");
+        assertEquals(0, modelTasks.size());
+
+        // other find modes are left to the command
+        liveSearch.update("find meyer m/fuzzy");
+        assertEquals(0, modelTasks.size());
+    }
+
+    @Test
+    public void update_previewAbandoned_executedFilterRestored() throws Exception {
+        // as left by an executed command that filters and ranks the list
+        Comparator<Person> byNameDescending = Comparator.comparing((Person person) -> person.getName().fullName)
+                .reversed();
+        model.updateFilteredPersonList(person -> !person.getTags().isEmpty(), byNameDescending);
+        assertEquals(List.of(DANIEL, BENSON, ALICE), model.getFilteredPersonList());
+
+        liveSearch.update("find meier");
+        awaitWorker();
+        runModelTasks();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        liveSearch.update("");
+        liveSearch.update("delete 1");
+        assertEquals(List.of(DANIEL, BENSON, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_searchInProgress_listLeftAsIs() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(CARL));
+        liveSearch.update("find meier");
+        liveSearch.cancel();
+        awaitWorker();
+        runModelTasks();
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+
+        // a cancelled search does not reset the list once the command text is cleared
+        liveSearch.update("");
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    private void awaitWorker() throws Exception {
+        worker.submit(() -> { }).get();
+    }
+
+    private void runModelTasks() {
+        List<Runnable> tasks = new ArrayList<>(modelTasks);
+        modelTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,9 +11,12 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,9 +24,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStatistics;
+import seedu.address.logic.stats.CommandStatistics.Phase;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -68,6 +76,38 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_initialLoadInProgress_refusedUntilLoaded() throws Exception {
+        JsonAddressBookStorage initialStorage = new JsonAddressBookStorage(temporaryFolder.resolve("initial.json"));
+        initialStorage.saveAddressBook(getTypicalAddressBook());
+        List<Runnable> modelTasks = new ArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader(model, modelTasks::add);
+        loader.start(initialStorage, Runnable::run);
+        ((LogicManager) logic).setInitialLoad(loader);
+
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+        assertFalse(loader.isComplete());
+
+        modelTasks.forEach(Runnable::run);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_commands_statisticsRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStatistics statistics = logic.getCommandStatistics();
+        assertEquals(2, statistics.getCommandCount());
+        assertEquals(1, statistics.getFailureCount());
+        assertTrue(statistics.getBytesSaved() > 0);
+        assertEquals(1, statistics.getHistogram(ListCommand.COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(1, statistics.getHistogram(ListCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(1, statistics.getHistogram(ListCommand.COMMAND_WORD, Phase.PERSIST).getCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -7,16 +7,26 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -76,6 +86,50 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_overlappingRangesUnfilteredList_success() {
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(new IndexRange(INDEX_SECOND_PERSON,
+                Index.fromOneBased(4)), IndexRange.of(INDEX_FIRST_PERSON), new IndexRange(INDEX_THIRD_PERSON,
+                Index.fromOneBased(5))));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 5);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeEndsOutsideList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(INDEX_SECOND_PERSON, outOfBoundIndex)));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_allFilteredList_success() {
+        model.updateFilteredPersonList(person -> person.getTags().contains(Tag.of("friends")));
+        DeleteCommand deleteCommand = DeleteCommand.forAllListed();
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(ALICE, BENSON, DANIEL));
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allEmptyList_throwsCommandException() {
+        showNoPerson(model);
+
+        assertCommandFailure(DeleteCommand.forAllListed(), model, Messages.MESSAGE_NO_PERSONS_LISTED);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -96,6 +150,14 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // same indexes as a range -> returns true
+        assertTrue(deleteFirstCommand.equals(new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)))));
+
+        // all listed persons -> returns true only for all listed persons
+        assertTrue(DeleteCommand.forAllListed().equals(DeleteCommand.forAllListed()));
+        assertFalse(deleteFirstCommand.equals(DeleteCommand.forAllListed()));
+        assertFalse(DeleteCommand.forAllListed().equals(deleteFirstCommand));
     }
 
     /**
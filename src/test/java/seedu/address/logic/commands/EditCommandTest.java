@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.DESC_AMY;
@@ -12,8 +13,14 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
@@ -24,6 +31,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -145,6 +153,79 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_allFilteredList_success() {
+        model.updateFilteredPersonList(person -> person.getTags().contains(Tag.of("friends")));
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB)
+                .withTags(VALID_TAG_HUSBAND).build();
+        EditCommand editCommand = EditCommand.forAllListed(descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSONS_SUCCESS, 3);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withTags("friends", VALID_TAG_HUSBAND).build());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB)
+                .withTags("owesMoney", "friends", VALID_TAG_HUSBAND).build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withPhone(VALID_PHONE_BOB)
+                .withTags("friends", VALID_TAG_HUSBAND).build());
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allAddTags_existingTagsKept() {
+        EditCommand editCommand = EditCommand.forAllListed(
+                new EditPersonDescriptorBuilder().withTags("friends", VALID_TAG_HUSBAND).build());
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSONS_SUCCESS,
+                model.getFilteredPersonList().size());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        for (Person person : model.getFilteredPersonList()) {
+            Stream<String> tagNames = Stream.concat(person.getTags().stream().map(tag -> tag.tagName),
+                    Stream.of("friends", VALID_TAG_HUSBAND));
+            expectedModel.setPerson(person,
+                    new PersonBuilder(person).withTags(tagNames.toArray(String[]::new)).build());
+        }
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        assertEquals(Set.of(Tag.of("owesMoney"), Tag.of("friends"), Tag.of(VALID_TAG_HUSBAND)),
+                model.getFilteredPersonList().get(1).getTags());
+    }
+
+    @Test
+    public void execute_allEmptyTags_tagsCleared() {
+        model.updateFilteredPersonList(person -> person.getTags().contains(Tag.of("friends")));
+        EditCommand editCommand = EditCommand.forAllListed(new EditPersonDescriptorBuilder().withTags().build());
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSONS_SUCCESS, 3);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        for (Person person : new Person[] {ALICE, BENSON, DANIEL}) {
+            expectedModel.setPerson(person, new PersonBuilder(person).withTags().build());
+        }
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allWithName_failure() {
+        EditCommand editCommand = EditCommand.forAllListed(
+                new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build());
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_NAME_EDITED_FOR_ALL);
+    }
+
+    @Test
+    public void execute_allEmptyList_failure() {
+        model.updateFilteredPersonList(person -> false);
+        EditCommand editCommand = EditCommand.forAllListed(
+                new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build());
+
+        assertCommandFailure(editCommand, model, Messages.MESSAGE_NO_PERSONS_LISTED);
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(INDEX_FIRST_PERSON, DESC_AMY);
@@ -168,6 +249,11 @@ public class EditCommandTest {
 
         // different descriptor -> returns false
         assertFalse(standardCommand.equals(new EditCommand(INDEX_FIRST_PERSON, DESC_BOB)));
+
+        // all listed persons -> returns true only for all listed persons with the same descriptor
+        assertTrue(EditCommand.forAllListed(DESC_AMY).equals(EditCommand.forAllListed(copyDescriptor)));
+        assertFalse(standardCommand.equals(EditCommand.forAllListed(DESC_AMY)));
+        assertFalse(EditCommand.forAllListed(DESC_AMY).equals(EditCommand.forAllListed(DESC_BOB)));
     }
 
 }
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -52,6 +54,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, FindCommand.Mode.FUZZY)));
     }
 
     @Test
@@ -74,6 +79,32 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyMisspelledKeywords_closestPersonsFirst() {
+        // "Meier" is one edit from "Meyer" and "Kurz" from "Kurtz", so they match after the exact "Meyer"
+        FindCommand command = new FindCommand(preparePredicate("Meyer Kurtz"), FindCommand.Mode.FUZZY);
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ELLE, BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyThenExact_addressBookOrderRestored() {
+        new FindCommand(preparePredicate("Meyer"), FindCommand.Mode.FUZZY).execute(model);
+        new FindCommand(preparePredicate("Meyer Meier")).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneticKeywords_soundAlikePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FindCommand command = new FindCommand(preparePredicate("Mayer Karl"), FindCommand.Mode.PHONETIC);
+        expectedModel.updateFilteredPersonList(preparePredicate("Meier Meyer Carl"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
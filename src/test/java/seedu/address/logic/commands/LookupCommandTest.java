@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.index.PhoneIndex;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LookupCommand lookupFirstCommand = new LookupCommand("9482", PhoneIndex.Match.PREFIX);
+
+        // same object -> returns true
+        assertTrue(lookupFirstCommand.equals(lookupFirstCommand));
+
+        // same values -> returns true
+        assertTrue(lookupFirstCommand.equals(new LookupCommand("9482", PhoneIndex.Match.PREFIX)));
+
+        // different types -> returns false
+        assertFalse(lookupFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupFirstCommand.equals(null));
+
+        // different digits -> returns false
+        assertFalse(lookupFirstCommand.equals(new LookupCommand("9483", PhoneIndex.Match.PREFIX)));
+
+        // different match -> returns false
+        assertFalse(lookupFirstCommand.equals(new LookupCommand("9482", PhoneIndex.Match.SUFFIX)));
+    }
+
+    @Test
+    public void execute_exactNumber_ownerFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        LookupCommand command = new LookupCommand(ALICE.getPhone().value, PhoneIndex.Match.EXACT);
+        expectedModel.updateFilteredPersonList(ALICE::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefix_numbersWithAreaCodeFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        LookupCommand command = new LookupCommand("9482", PhoneIndex.Match.PREFIX);
+        expectedModel.updateFilteredPersonList(person -> person.getPhone().value.startsWith("9482"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_suffixNotMatchingAnyNumber_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        LookupCommand command = new LookupCommand("0000", PhoneIndex.Match.SUFFIX);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+}
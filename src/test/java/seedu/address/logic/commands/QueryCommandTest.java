@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final Query FRIENDS_NOT_OWING_MONEY = new AndQuery(List.of(
+            new FieldQuery(FieldQuery.Field.TAG, "friends"),
+            new NotQuery(new FieldQuery(FieldQuery.Field.TAG, "owesMoney"))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand queryCommand = new QueryCommand(FRIENDS_NOT_OWING_MONEY, false);
+
+        // same object -> returns true
+        assertTrue(queryCommand.equals(queryCommand));
+
+        // same values -> returns true
+        assertTrue(queryCommand.equals(new QueryCommand(FRIENDS_NOT_OWING_MONEY, false)));
+
+        // different types -> returns false
+        assertFalse(queryCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(queryCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(new FieldQuery(FieldQuery.Field.TAG, "friends"), false)));
+
+        // explain -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(FRIENDS_NOT_OWING_MONEY, true)));
+    }
+
+    @Test
+    public void execute_query_matchingPersonsListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        QueryCommand command = new QueryCommand(FRIENDS_NOT_OWING_MONEY, false);
+        expectedModel.updateFilteredPersonList(FRIENDS_NOT_OWING_MONEY);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        String expectedMessage = String.format(QueryCommand.MESSAGE_EXPLAIN, FRIENDS_NOT_OWING_MONEY,
+                "Index lookup (t/friends and not t/owesMoney) (est. 2)");
+        assertCommandSuccess(new QueryCommand(FRIENDS_NOT_OWING_MONEY, true), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.index.SortKeyIndex.Field;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_field_sorted() {
+        expectedModel.sortPersonList(Optional.of(Field.EMAIL));
+        assertCommandSuccess(new SortCommand(Optional.of(Field.EMAIL)), model,
+                String.format(SortCommand.MESSAGE_SORT_SUCCESS, "email"), expectedModel);
+        assertEquals(List.of(ALICE, GEORGE, DANIEL, CARL, BENSON, FIONA, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_none_addedOrder() {
+        model.sortPersonList(Optional.of(Field.PHONE));
+        assertCommandSuccess(new SortCommand(Optional.empty()), model, SortCommand.MESSAGE_UNSORT_SUCCESS,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(Optional.of(Field.NAME));
+
+        assertTrue(sortByName.equals(sortByName));
+        assertTrue(sortByName.equals(new SortCommand(Optional.of(Field.NAME))));
+        assertFalse(sortByName.equals(1));
+        assertFalse(sortByName.equals(null));
+        assertFalse(sortByName.equals(new SortCommand(Optional.empty())));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.stats.CommandStatistics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final CommandStatistics statistics = new CommandStatistics();
+
+    @Test
+    public void execute_showsReport() {
+        statistics.recordCommand(true);
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(statistics), model, statistics.getReport(), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(statistics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same statistics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(statistics)));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // different statistics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStatistics())));
+    }
+}
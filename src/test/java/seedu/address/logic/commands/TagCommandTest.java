@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TagCommand.Action;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for TagCommand.
+ */
+public class TagCommandTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag OWES_MONEY = Tag.of("owesMoney");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_rename_success() {
+        TagCommand tagCommand = new TagCommand(Action.RENAME, Set.of(FRIENDS), Tag.of("pals"));
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_RENAME_SUCCESS, "[friends]", "[pals]", 3);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withTags("pals").build());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney", "pals").build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withTags("pals").build());
+
+        assertCommandSuccess(tagCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.findPersonsByAnyTag(Set.of(FRIENDS)).isEmpty());
+        assertEquals(3, model.findPersonsByAnyTag(Set.of(Tag.of("pals"))).size());
+    }
+
+    @Test
+    public void execute_merge_success() {
+        TagCommand tagCommand = new TagCommand(Action.MERGE, Set.of(FRIENDS, OWES_MONEY), OWES_MONEY);
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_MERGE_SUCCESS, "[friends] [owesMoney]",
+                "[owesMoney]", 3);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withTags("owesMoney").build());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney").build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withTags("owesMoney").build());
+
+        assertCommandSuccess(tagCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_delete_success() {
+        TagCommand tagCommand = new TagCommand(Action.DELETE, Set.of(OWES_MONEY), null);
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_DELETE_SUCCESS, "[owesMoney]", 1);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("friends").build());
+
+        assertCommandSuccess(tagCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noPersonWithTags_failure() {
+        TagCommand tagCommand = new TagCommand(Action.DELETE, Set.of(Tag.of("colleagues")), null);
+
+        assertCommandFailure(tagCommand, model, String.format(TagCommand.MESSAGE_TAGS_NOT_FOUND, "[colleagues]"));
+    }
+
+    @Test
+    public void equals() {
+        TagCommand renameCommand = new TagCommand(Action.RENAME, Set.of(FRIENDS), OWES_MONEY);
+
+        // same values -> returns true
+        assertTrue(renameCommand.equals(new TagCommand(Action.RENAME, Set.of(FRIENDS), OWES_MONEY)));
+
+        // same object -> returns true
+        assertTrue(renameCommand.equals(renameCommand));
+
+        // null -> returns false
+        assertFalse(renameCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(renameCommand.equals(new ClearCommand()));
+
+        // different action, tags or new tag -> returns false
+        assertFalse(renameCommand.equals(new TagCommand(Action.MERGE, Set.of(FRIENDS), OWES_MONEY)));
+        assertFalse(renameCommand.equals(new TagCommand(Action.RENAME, Set.of(OWES_MONEY), OWES_MONEY)));
+        assertFalse(renameCommand.equals(new TagCommand(Action.RENAME, Set.of(FRIENDS), Tag.of("pals"))));
+    }
+}
@@ -105,6 +105,16 @@ public class EditCommandParserTest {
                 Name.MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    public void parse_allListed_success() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB)
+                .withTags(VALID_TAG_FRIEND).build();
+        assertParseSuccess(parser, " all" + PHONE_DESC_BOB + TAG_DESC_FRIEND, EditCommand.forAllListed(descriptor));
+
+        // no field specified
+        assertParseFailure(parser, " all", EditCommand.MESSAGE_NOT_EDITED);
+    }
+
     @Test
     public void parse_allFieldsSpecified_success() {
         Index targetIndex = INDEX_SECOND_PERSON;
@@ -29,6 +29,39 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // explicit exact mode
+        assertParseSuccess(parser, " Alice Bob m/EXACT", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyMode_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bob")), FindCommand.Mode.FUZZY);
+
+        // mode after the keywords
+        assertParseSuccess(parser, " Alcie Bob m/fuzzy", expectedFindCommand);
+
+        // mode before the keywords
+        assertParseSuccess(parser, " m/fuzzy Alcie Bob", expectedFindCommand);
+
+        // mode between the keywords
+        assertParseSuccess(parser, " Alcie m/fuzzy Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_phoneticMode_returnsPhoneticFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Kathryn")), FindCommand.Mode.PHONETIC);
+        assertParseSuccess(parser, " Kathryn m/phonetic", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        assertParseFailure(parser, " Alice m/sloppy", String.format(FindCommandParser.MESSAGE_INVALID_MODE, "sloppy"));
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " Alice m/", expectedMessage);
+        assertParseFailure(parser, " m/fuzzy", expectedMessage);
     }
 
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.model.index.PhoneIndex;
+
+public class LookupCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE);
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        assertParseSuccess(parser, " 91234567", new LookupCommand("91234567", PhoneIndex.Match.EXACT));
+        assertParseSuccess(parser, " 9123*", new LookupCommand("9123", PhoneIndex.Match.PREFIX));
+        assertParseSuccess(parser, " *4567 ", new LookupCommand("4567", PhoneIndex.Match.SUFFIX));
+
+        // formatting characters are ignored
+        assertParseSuccess(parser, " +65 (9123) 45-67", new LookupCommand("6591234567", PhoneIndex.Match.EXACT));
+        assertParseSuccess(parser, " *45 67", new LookupCommand("4567", PhoneIndex.Match.SUFFIX));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " *", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " *45*", MESSAGE_INVALID_FORMAT); // both prefix and suffix
+        assertParseFailure(parser, " 9123a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 91*23", MESSAGE_INVALID_FORMAT);
+    }
+}
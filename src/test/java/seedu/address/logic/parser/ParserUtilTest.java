@@ -5,14 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +61,23 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRanges_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRanges("1,"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRanges("1-a"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRanges("0-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRanges("1-2-3"));
+        assertThrows(ParseException.class, IndexRange.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseIndexRanges("5-2"));
+    }
+
+    @Test
+    public void parseIndexRanges_validInput_success() throws Exception {
+        assertEquals(List.of(IndexRange.of(INDEX_FIRST_PERSON)), ParserUtil.parseIndexRanges(" 1 "));
+        assertEquals(List.of(IndexRange.of(INDEX_THIRD_PERSON), IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(INDEX_SECOND_PERSON, Index.fromOneBased(500))),
+                ParserUtil.parseIndexRanges("3, 1,2 - 500"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
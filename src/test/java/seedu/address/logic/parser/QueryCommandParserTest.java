@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+
+public class QueryCommandParserTest {
+
+    private static final Query NAME_ALICE = new FieldQuery(FieldQuery.Field.NAME, "alice");
+    private static final Query TAG_FRIENDS = new FieldQuery(FieldQuery.Field.TAG, "friends");
+    private static final Query PHONE_PREFIX = new FieldQuery(FieldQuery.Field.PHONE, "9123*");
+    private static final Query ADDRESS_CLEMENTI = new FieldQuery(FieldQuery.Field.ADDRESS, "clementi ave");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleCondition_returnsQueryCommand() {
+        assertParseSuccess(parser, " n/alice", new QueryCommand(NAME_ALICE, false));
+        assertParseSuccess(parser, " a/\"clementi ave\"", new QueryCommand(ADDRESS_CLEMENTI, false));
+        assertParseSuccess(parser, " explain n/alice", new QueryCommand(NAME_ALICE, true));
+    }
+
+    @Test
+    public void parse_operators_usualPrecedence() {
+        // and binds tighter than or, and may be left out
+        assertParseSuccess(parser, " n/alice t/friends OR p/9123*", new QueryCommand(
+                new OrQuery(List.of(new AndQuery(List.of(NAME_ALICE, TAG_FRIENDS)), PHONE_PREFIX)), false));
+        assertParseSuccess(parser, " n/alice and t/friends or p/9123*", new QueryCommand(
+                new OrQuery(List.of(new AndQuery(List.of(NAME_ALICE, TAG_FRIENDS)), PHONE_PREFIX)), false));
+
+        // brackets
+        assertParseSuccess(parser, " n/alice and (t/friends or p/9123*)", new QueryCommand(
+                new AndQuery(List.of(NAME_ALICE, new OrQuery(List.of(TAG_FRIENDS, PHONE_PREFIX)))), false));
+
+        // not binds tightest
+        assertParseSuccess(parser, " not n/alice t/friends", new QueryCommand(
+                new AndQuery(List.of(new NotQuery(NAME_ALICE), TAG_FRIENDS)), false));
+        assertParseSuccess(parser, " not (n/alice or t/friends)", new QueryCommand(
+                new NotQuery(new OrQuery(List.of(NAME_ALICE, TAG_FRIENDS))), false));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", invalidFormat);
+        assertParseFailure(parser, " explain", invalidFormat);
+
+        assertParseFailure(parser, " alice", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "alice"));
+        assertParseFailure(parser, " (n/alice", QueryCommandParser.MESSAGE_UNEXPECTED_END);
+        assertParseFailure(parser, " n/alice)", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, ")"));
+        assertParseFailure(parser, " n/alice or", QueryCommandParser.MESSAGE_UNEXPECTED_END);
+        assertParseFailure(parser, " a/\"clementi", QueryCommandParser.MESSAGE_UNCLOSED_QUOTE);
+
+        // invalid values
+        assertParseFailure(parser, " p/91a", FieldQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/best*friends", FieldQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " e/", FieldQuery.MESSAGE_CONSTRAINTS);
+    }
+}
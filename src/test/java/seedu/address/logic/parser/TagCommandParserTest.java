@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.TagCommand.Action;
+import seedu.address.model.tag.Tag;
+
+public class TagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE);
+
+    private TagCommandParser parser = new TagCommandParser();
+
+    @Test
+    public void parse_rename_returnsTagCommand() {
+        assertParseSuccess(parser, " rename  friends pals ",
+                new TagCommand(Action.RENAME, Set.of(Tag.of("friends")), Tag.of("pals")));
+        assertParseFailure(parser, "rename friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "rename friends pals mates", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_merge_returnsTagCommand() {
+        assertParseSuccess(parser, "MERGE family relatives into kin",
+                new TagCommand(Action.MERGE, Set.of(Tag.of("family"), Tag.of("relatives")), Tag.of("kin")));
+        assertParseFailure(parser, "merge into kin", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "merge family relatives kin", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_delete_returnsTagCommand() {
+        assertParseSuccess(parser, "delete obsolete old",
+                new TagCommand(Action.DELETE, Set.of(Tag.of("obsolete"), Tag.of("old")), null));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "delete", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "copy friends pals", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "delete friends#", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.stats.CommandStatistics.Phase;
+
+public class CommandStatisticsTest {
+
+    private final CommandStatistics statistics = new CommandStatistics();
+
+    @Test
+    public void recordCommand_successAndFailure_countersUpdated() {
+        statistics.recordCommand(true);
+        statistics.recordCommand(false);
+        statistics.recordBytesSaved(100);
+        statistics.recordBytesSaved(20);
+
+        assertEquals(2, statistics.getCommandCount());
+        assertEquals(1, statistics.getFailureCount());
+        assertEquals(120, statistics.getBytesSaved());
+        assertEquals("2 commands (1 failed), 120 bytes saved", statistics.getSummary());
+    }
+
+    @Test
+    public void recordPhase_samples_histogramUpdated() {
+        statistics.recordPhase("add", Phase.EXECUTE, 1_000_000);
+        statistics.recordPhase("add", Phase.EXECUTE, 3_000_000);
+
+        LatencyHistogram histogram = statistics.getHistogram("add", Phase.EXECUTE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(2.0, histogram.getMeanMillis(), 1e-9);
+        assertEquals(3.0, histogram.getMaxMillis(), 1e-9);
+        assertEquals(2.0, statistics.getMeanMillis("add", "EXECUTE"), 1e-9);
+        assertEquals(0.0, statistics.getMeanMillis("add", "PARSE"), 1e-9);
+        assertEquals(0.0, statistics.getMeanMillis("delete", "EXECUTE"), 1e-9);
+    }
+
+    @Test
+    public void getMeanMillis_invalidPhase_returnsNaN() {
+        statistics.recordPhase("add", Phase.EXECUTE, 2_000_000);
+
+        assertEquals(2.0, statistics.getMeanMillis("add", "execute"), 1e-9);
+        assertTrue(Double.isNaN(statistics.getMeanMillis("add", "EXECUTING")));
+        assertTrue(Double.isNaN(statistics.getMeanMillis("add", null)));
+        assertTrue(Double.isNaN(statistics.getMeanMillis(null, "EXECUTE")));
+    }
+
+    @Test
+    public void getPercentileMillis_samples_upperBoundWithinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0.0, histogram.getPercentileMillis(50), 1e-9);
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 10_000L); // 0.01ms to 1ms
+        }
+        double median = histogram.getPercentileMillis(50);
+        assertTrue(median >= 0.5 && median <= 1.0);
+        assertEquals(1.0, histogram.getPercentileMillis(100), 1e-9);
+    }
+
+    @Test
+    public void getReport_recordedCommandWords_listed() {
+        statistics.recordPhase("list", Phase.PARSE, 1000);
+        statistics.recordPhase("add", Phase.PERSIST, 1000);
+        String report = statistics.getReport();
+        assertTrue(report.contains("\nadd:\n  persist n=1"));
+        assertTrue(report.indexOf("add:") < report.indexOf("list:"));
+    }
+}
@@ -3,12 +3,15 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -86,6 +90,45 @@ public class AddressBookTest {
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
+    @Test
+    public void addIndex_mutations_indexKeptUpToDate() {
+        addressBook.addPerson(ALICE);
+        PersonIndexStub index = new PersonIndexStub();
+        addressBook.addIndex(index);
+        assertEquals(List.of(ALICE), index.persons);
+
+        addressBook.addPerson(BOB);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_AMY).build();
+        addressBook.setPerson(BOB, editedBob);
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(editedBob), index.persons);
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList(), index.persons);
+    }
+
+    /**
+     * A {@code PersonIndex} that keeps the persons it is given in a list.
+     */
+    private static class PersonIndexStub implements PersonIndex {
+        private final List<Person> persons = new ArrayList<>();
+
+        @Override
+        public void add(Person person) {
+            persons.add(person);
+        }
+
+        @Override
+        public void remove(Person person) {
+            persons.remove(person);
+        }
+
+        @Override
+        public void clear() {
+            persons.clear();
+        }
+    }
+
     private static class AddressBookStub implements ReadOnlyAddressBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
 
@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.testutil.TestUtil;
+
+public class ColumnarAddressBookTest {
+
+    private static final int FOOTPRINT_PERSON_COUNT = 100_000;
+
+    @Test
+    public void getPersonList_typicalAddressBook_samePersonsInOrder() {
+        ColumnarAddressBook addressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalPersons(), addressBook.getPersonList());
+        assertEquals(getTypicalPersons().size(), addressBook.size());
+        assertEquals(ALICE, addressBook.getPerson(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> addressBook.getPerson(addressBook.size()));
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        ColumnarAddressBook addressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        ColumnarAddressBook addressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertEquals(addressBook, new ColumnarAddressBook(getTypicalAddressBook()));
+        assertEquals(addressBook, new ColumnarAddressBook(addressBook));
+        assertNotEquals(addressBook, new ColumnarAddressBook(new AddressBook()));
+        assertNotEquals(addressBook, getTypicalAddressBook());
+    }
+
+    /**
+     * Measures the heap retained by persons as objects, and by the same persons in columns, after garbage
+     * collection.
+     */
+    @Test
+    public void footprint_manyPersons_smallerThanObjects() {
+        long objectBytes = TestUtil.getRetainedBytes(() -> createPersons(FOOTPRINT_PERSON_COUNT));
+        AddressBook objects = new AddressBook();
+        objects.addPersons(createPersons(FOOTPRINT_PERSON_COUNT));
+        long columnBytes = TestUtil.getRetainedBytes(() -> new ColumnarAddressBook(objects));
+
+        assertTrue(columnBytes < objectBytes, "objects: " + objectBytes / FOOTPRINT_PERSON_COUNT
+                + " bytes per person, columns: " + columnBytes / FOOTPRINT_PERSON_COUNT + " bytes per person");
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names, phones and emails, and addresses and tags drawn from a
+     * few hundred values, each with its own strings as if read from a file.
+     */
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Tag> tags = new ArrayList<>();
+            if (i % 3 == 0) {
+                tags.add(Tag.of("friends"));
+            }
+            if (i % 5 == 0) {
+                tags.add(Tag.of("colleague" + i % 4));
+            }
+            persons.add(new Person(new Name("Contact " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("contact" + i + "@example.com"),
+                    new Address("Blk " + i % 300 + ", Clementi Ave " + i % 7 + ", #0" + i % 9 + "-12"),
+                    TagSet.of(tags)));
+        }
+        return persons;
+    }
+}
@@ -10,13 +10,32 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.ParallelScan;
+import seedu.address.model.index.SortKeyIndex;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSetPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +107,171 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookSnapshot_laterMutation_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void hasPerson_concurrentWriter_readersSeeConsistentState() throws Exception {
+        modelManager.addPerson(ALICE);
+        ExecutorService readers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(readers.submit(() -> {
+                    boolean alwaysFound = true;
+                    for (int j = 0; j < 2000; j++) {
+                        alwaysFound &= modelManager.hasPerson(ALICE);
+                        modelManager.getAddressBookSnapshot();
+                    }
+                    return alwaysFound;
+                }));
+            }
+
+            for (int i = 0; i < 200; i++) {
+                Person person = new PersonBuilder().withName("Writer " + i).build();
+                modelManager.addPerson(person);
+                modelManager.deletePerson(person);
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void findPersonsByNameWords_afterMutations_matchesNameContainsKeywordsPredicate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person renamed = new PersonBuilder(BENSON).withName("Benson Pauline").build();
+        modelManager.setPerson(BENSON, renamed);
+
+        List<String> keywords = Arrays.asList("pauline", "Meier");
+        Set<Person> expected = new HashSet<>();
+        modelManager.getAddressBook().getPersonList().stream()
+                .filter(new NameContainsKeywordsPredicate(keywords)).forEach(expected::add);
+        assertEquals(Set.of(ALICE, renamed), expected);
+        assertEquals(expected, modelManager.findPersonsByNameWords(keywords));
+    }
+
+    @Test
+    public void updateFilteredPersonList_largeAddressBook_sameAsSequentialFilter() {
+        List<Person> persons = createLargePersonList();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        Predicate<Person> predicate = person -> person.getPhone().value.endsWith("7");
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                modelManager.getFilteredPersonList());
+
+        // persons edited after filtering are tested against the predicate
+        Person edited = new PersonBuilder(persons.get(0)).withPhone("80000007").build();
+        modelManager.setPerson(persons.get(0), edited);
+        assertEquals(edited, modelManager.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void updateFilteredPersonList_largeAddressBook_scannedOnOtherThreads() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(createLargePersonList());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        Thread testThread = Thread.currentThread();
+        AtomicBoolean isFirstTestOnTestThread = new AtomicBoolean(true);
+        CountDownLatch testedOnOtherThread = new CountDownLatch(1);
+        modelManager.updateFilteredPersonList(person -> {
+            if (Thread.currentThread() != testThread) {
+                testedOnOtherThread.countDown();
+            } else if (isFirstTestOnTestThread.getAndSet(false)) {
+                // hold this thread, so that the scan only finishes in time if other threads test the other persons
+                try {
+                    testedOnOtherThread.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        });
+
+        assertEquals(0, testedOnOtherThread.getCount());
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_largeAddressBookPersonSet_testedOnce() {
+        List<Person> persons = createLargePersonList();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        AtomicInteger lookupCount = new AtomicInteger();
+        Set<Person> matches = new HashSet<>(persons.subList(0, 10)) {
+            @Override
+            public boolean contains(Object person) {
+                lookupCount.incrementAndGet();
+                return super.contains(person);
+            }
+        };
+        modelManager.updateFilteredPersonList(new PersonSetPredicate(matches));
+
+        // the persons are looked up by the FilteredList only, without a scan beforehand
+        assertEquals(persons.subList(0, 10), modelManager.getFilteredPersonList());
+        assertEquals(persons.size(), lookupCount.get());
+    }
+
+    @Test
+    public void sortPersonList_laterMutationsAndFilters_orderKept() {
+        Person zoe = new PersonBuilder().withName("zoe").withPhone("91111111").build();
+        Person adam = new PersonBuilder().withName("adam").withPhone("92222222").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("93333333").build();
+        modelManager.addPerson(zoe);
+        modelManager.addPerson(adam);
+        modelManager.sortPersonList(Optional.of(SortKeyIndex.Field.NAME));
+        assertEquals(List.of(adam, zoe), modelManager.getFilteredPersonList());
+
+        // added and edited persons are placed by their new names
+        modelManager.addPerson(bob);
+        assertEquals(List.of(adam, bob, zoe), modelManager.getFilteredPersonList());
+        Person renamed = new PersonBuilder(zoe).withName("Aaron").build();
+        modelManager.setPerson(zoe, renamed);
+        assertEquals(List.of(renamed, adam, bob), modelManager.getFilteredPersonList());
+
+        // the order is kept across filters, and dropped when sorting by no field
+        modelManager.updateFilteredPersonList(person -> !person.equals(adam));
+        assertEquals(List.of(renamed, bob), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.sortPersonList(Optional.empty());
+        assertEquals(List.of(renamed, adam, bob), modelManager.getFilteredPersonList());
+        modelManager.sortPersonList(Optional.of(SortKeyIndex.Field.PHONE));
+        assertEquals(List.of(renamed, adam, bob), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersonPage_filteredAndSortedList_pagesInDisplayedOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(new PersonBuilder().withName("Carl").withPhone("95352563").build());
+        modelManager.sortPersonList(Optional.of(SortKeyIndex.Field.NAME));
+        modelManager.updateFilteredPersonList(person -> !person.getName().fullName.equals("Carl"));
+
+        PersonPage first = modelManager.getFirstPersonPage(1);
+        assertEquals(List.of(ALICE), first.getPersons());
+        assertEquals(2, first.getTotal());
+        modelManager.deletePerson(BENSON);
+        assertEquals(new PersonPage(List.of(BENSON), 1, 2, null),
+                modelManager.getPersonPage(first.getNextPageToken().get(), 1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -129,4 +313,15 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Returns more persons than {@link ParallelScan} scans on the calling thread.
+     */
+    private static List<Person> createLargePersonList() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ParallelScan.SEQUENTIAL_THRESHOLD + 1_000; i++) {
+            persons.add(new PersonBuilder().withName("Contact " + i).withPhone(String.valueOf(80000000 + i)).build());
+        }
+        return persons;
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.exceptions.PageTokenNotFoundException;
+import seedu.address.model.person.Person;
+
+public class PersonPagerTest {
+
+    private final PersonPager pager = new PersonPager();
+
+    @Test
+    public void start_fitsInOnePage_noNextPage() {
+        PersonPage page = pager.start(List.of(ALICE, BENSON), 2);
+        assertEquals(new PersonPage(List.of(ALICE, BENSON), 0, 2, null), page);
+        assertFalse(page.getNextPageToken().isPresent());
+    }
+
+    @Test
+    public void next_listChangedAfterStart_pagesOfSnapshot() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+        PersonPage first = pager.start(persons, 2);
+        persons.clear();
+
+        PersonPage second = pager.next(first.getNextPageToken().get(), 2);
+        assertEquals(List.of(CARL, DANIEL), second.getPersons());
+        assertEquals(2, second.getOffset());
+        assertEquals(5, second.getTotal());
+        assertEquals(second, pager.next(first.getNextPageToken().get(), 2));
+
+        // the page size may change between pages
+        PersonPage last = pager.next(second.getNextPageToken().get(), 10);
+        assertEquals(new PersonPage(List.of(ELLE), 4, 5, null), last);
+    }
+
+    @Test
+    public void next_invalidToken_throwsPageTokenNotFoundException() {
+        String token = pager.start(List.of(ALICE, BENSON, CARL), 1).getNextPageToken().get();
+        String id = token.substring(0, token.indexOf('-'));
+
+        assertThrows(PageTokenNotFoundException.class, () -> pager.next("abc", 1));
+        assertThrows(PageTokenNotFoundException.class, () -> pager.next(id + "-x", 1));
+        assertThrows(PageTokenNotFoundException.class, () -> pager.next(id + "-3", 1));
+        assertThrows(PageTokenNotFoundException.class, () -> pager.next("0-1", 1));
+        assertThrows(IllegalArgumentException.class, () -> pager.next(token, 0));
+    }
+
+    @Test
+    public void next_tooManySnapshots_oldestDiscarded() {
+        String oldest = pager.start(List.of(ALICE, BENSON), 1).getNextPageToken().get();
+        String recent = pager.start(List.of(ALICE, BENSON), 1).getNextPageToken().get();
+        for (int i = 2; i < PersonPager.MAX_SNAPSHOTS; i++) {
+            pager.start(List.of(ALICE, BENSON), 1);
+        }
+        pager.next(oldest, 1);
+        pager.start(List.of(CARL, DANIEL), 1);
+
+        // reading the oldest snapshot kept it, so the least recently read one was discarded instead
+        assertEquals(List.of(BENSON), pager.next(oldest, 1).getPersons());
+        assertThrows(PageTokenNotFoundException.class, () -> pager.next(recent, 1));
+    }
+}
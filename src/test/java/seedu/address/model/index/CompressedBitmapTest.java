@@ -0,0 +1,138 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TestUtil;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_sparseAndDenseChunks_allContained() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        // a sparse chunk, and a chunk that outgrows its sorted array
+        bitmap.add(3);
+        for (int i = 0; i <= CompressedBitmap.MAX_ARRAY_SIZE; i++) {
+            bitmap.add(70000 + 2 * i);
+        }
+        bitmap.add(3);
+
+        assertEquals(CompressedBitmap.MAX_ARRAY_SIZE + 2, bitmap.getCardinality());
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70000 + 2 * CompressedBitmap.MAX_ARRAY_SIZE));
+        assertFalse(bitmap.contains(70001));
+        assertFalse(bitmap.contains(-1));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    public void remove_lastValues_chunksShrinkAndEmpty() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i <= CompressedBitmap.MAX_ARRAY_SIZE; i++) {
+            bitmap.add(i);
+        }
+        for (int i = 0; i <= CompressedBitmap.MAX_ARRAY_SIZE; i++) {
+            bitmap.remove(i);
+        }
+        bitmap.remove(5);
+
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new CompressedBitmap(), bitmap);
+    }
+
+    @Test
+    public void setOperations_randomSets_matchBitSet() {
+        Random random = new Random(39);
+        for (int density : new int[] {50, 7000, 20000}) {
+            BitSet first = new BitSet();
+            BitSet second = new BitSet();
+            CompressedBitmap firstBitmap = new CompressedBitmap();
+            CompressedBitmap secondBitmap = new CompressedBitmap();
+            for (int i = 0; i < density; i++) {
+                int value = random.nextInt(200000);
+                first.set(value);
+                firstBitmap.add(value);
+                value = random.nextInt(200000);
+                second.set(value);
+                secondBitmap.add(value);
+            }
+
+            BitSet and = (BitSet) first.clone();
+            and.and(second);
+            BitSet or = (BitSet) first.clone();
+            or.or(second);
+            BitSet andNot = (BitSet) first.clone();
+            andNot.andNot(second);
+
+            assertEquals(toList(and), toList(firstBitmap.and(secondBitmap)));
+            assertEquals(toList(or), toList(firstBitmap.or(secondBitmap)));
+            assertEquals(toList(andNot), toList(firstBitmap.andNot(secondBitmap)));
+            assertEquals(first.cardinality(), firstBitmap.getCardinality());
+        }
+    }
+
+    @Test
+    public void setOperations_inputsUnchanged() {
+        CompressedBitmap first = new CompressedBitmap();
+        CompressedBitmap second = new CompressedBitmap();
+        first.add(1);
+        second.add(2);
+
+        CompressedBitmap union = first.or(second);
+        union.add(3);
+
+        assertEquals(List.of(1), toList(first));
+        assertEquals(List.of(2), toList(second));
+        assertEquals(List.of(1, 2, 3), toList(union));
+    }
+
+    @Test
+    public void or_sparseChunks_mergedWithoutBitmaps() {
+        CompressedBitmap first = new CompressedBitmap();
+        CompressedBitmap second = new CompressedBitmap();
+        first.add(1);
+        second.add(2);
+
+        // a bitmap of 1024 words alone would take 8 KB
+        assertTrue(TestUtil.getAllocatedBytes(() -> first.or(second), 1_000) < 1_000_000);
+        assertEquals(List.of(1, 2), toList(first.or(second)));
+    }
+
+    @Test
+    public void addAndRemove_aroundArrayLimit_notConverted() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i <= CompressedBitmap.MAX_ARRAY_SIZE; i++) {
+            bitmap.add(2 * i);
+        }
+        int value = 2 * CompressedBitmap.MAX_ARRAY_SIZE;
+
+        // each conversion between a bitmap and an array would allocate at least 8 KB
+        assertTrue(TestUtil.getAllocatedBytes(() -> {
+            bitmap.remove(value);
+            bitmap.add(value);
+        }, 1_000) < 1_000_000);
+        assertEquals(CompressedBitmap.MAX_ARRAY_SIZE + 1, bitmap.getCardinality());
+        assertTrue(bitmap.contains(value));
+    }
+
+    private static List<Integer> toList(BitSet bitSet) {
+        List<Integer> values = new ArrayList<>();
+        bitSet.stream().forEach(values::add);
+        return values;
+    }
+
+    private static List<Integer> toList(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final FuzzyNameIndex index = new FuzzyNameIndex(nameWordIndex);
+
+    @Test
+    public void find_misspelledKeyword_similarWordsFound() {
+        add(ALICE, BENSON, ELLE);
+
+        assertEquals(List.of(ALICE), index.find(List.of("alcie"))); // transposition
+        assertEquals(List.of(ALICE), index.find(List.of("PAULIEN")));
+        assertEquals(List.of(ELLE, BENSON), index.find(List.of("meyer"))); // exact match first
+        assertEquals(List.of(), index.find(List.of("bob")));
+        assertEquals(List.of(), index.find(List.of("")));
+    }
+
+    @Test
+    public void find_multipleKeywords_moreMatchedKeywordsFirst() {
+        Person alice = new PersonBuilder().withName("Alice Meier").build();
+        add(BENSON, alice, ALICE);
+
+        assertEquals(List.of(alice, ALICE, BENSON), index.find(List.of("alise", "meir")));
+    }
+
+    @Test
+    public void find_shortKeywords_editsAllowedByLength() {
+        Person bo = new PersonBuilder().withName("Bo Yang").build();
+        Person ba = new PersonBuilder().withName("Ba Yong").build();
+        add(bo, ba);
+
+        assertEquals(List.of(bo), index.find(List.of("bo"))); // no edits for two letters
+        assertEquals(List.of(ba, bo), index.find(List.of("yong")));
+        assertEquals(0, FuzzyNameIndex.getMaxEdits(2));
+        assertEquals(1, FuzzyNameIndex.getMaxEdits(5));
+        assertEquals(2, FuzzyNameIndex.getMaxEdits(6));
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_wordNoLongerFound() {
+        Person otherAlice = new PersonBuilder().withName("Alice Yeoh").build();
+        add(ALICE, otherAlice);
+
+        remove(ALICE);
+        assertEquals(List.of(otherAlice), index.find(List.of("alcie")));
+        assertEquals(List.of(), index.find(List.of("pauline")));
+
+        remove(otherAlice);
+        assertEquals(List.of(), index.find(List.of("alcie")));
+    }
+
+    private void add(Person... persons) {
+        for (Person person : persons) {
+            nameWordIndex.add(person);
+            index.add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        nameWordIndex.remove(person);
+        index.remove(person);
+    }
+}
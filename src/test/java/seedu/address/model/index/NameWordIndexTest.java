@@ -0,0 +1,39 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameWordIndexTest {
+
+    private final NameWordIndex index = new NameWordIndex();
+
+    @Test
+    public void find_wholeWordsIgnoringCase_unionReturned() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        assertEquals(Set.of(BENSON, DANIEL), index.find(List.of("meier")));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.find(List.of("ALICE", "Meier")));
+        assertEquals(Set.of(), index.find(List.of("Mei")));
+        assertEquals(Set.of(), index.find(List.of()));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.find(List.of("Meier")));
+
+        index.clear();
+        assertEquals(Set.of(), index.find(List.of("Meier", "Daniel")));
+    }
+}
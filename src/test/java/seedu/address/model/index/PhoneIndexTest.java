@@ -0,0 +1,74 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex index = new PhoneIndex();
+
+    @Test
+    public void find_exactPrefixAndSuffix_matchingPersonsFound() {
+        // 98765432, 95352563 and 87652533
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+
+        assertEquals(Set.of(CARL), index.find("95352563", PhoneIndex.Match.EXACT));
+        assertEquals(Set.of(), index.find("9535", PhoneIndex.Match.EXACT));
+        assertEquals(Set.of(BENSON, CARL), index.find("9", PhoneIndex.Match.PREFIX));
+        assertEquals(Set.of(CARL), index.find("2563", PhoneIndex.Match.SUFFIX));
+        assertEquals(Set.of(CARL, DANIEL), index.find("3", PhoneIndex.Match.SUFFIX));
+        assertEquals(Set.of(BENSON, CARL, DANIEL), index.find("", PhoneIndex.Match.PREFIX));
+    }
+
+    @Test
+    public void count_matchingPersons_countedWithoutLookup() {
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+
+        assertEquals(1, index.count("95352563", PhoneIndex.Match.EXACT));
+        assertEquals(0, index.count("9535", PhoneIndex.Match.EXACT));
+        assertEquals(2, index.count("9", PhoneIndex.Match.PREFIX));
+        assertEquals(2, index.count("3", PhoneIndex.Match.SUFFIX));
+        assertEquals(3, index.count("", PhoneIndex.Match.PREFIX));
+
+        index.remove(CARL);
+        assertEquals(1, index.count("9", PhoneIndex.Match.PREFIX));
+        assertEquals(0, index.count("95", PhoneIndex.Match.PREFIX));
+    }
+
+    @Test
+    public void find_nonDigits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.find("12a", PhoneIndex.Match.EXACT));
+    }
+
+    @Test
+    public void remove_sharedNumber_otherOwnerStillFound() {
+        Person sharedLine = new PersonBuilder(CARL).withName("Carla Kurz").build();
+        index.add(CARL);
+        index.add(sharedLine);
+
+        index.remove(CARL);
+        assertEquals(Set.of(sharedLine), index.find("2563", PhoneIndex.Match.SUFFIX));
+
+        index.remove(sharedLine);
+        assertEquals(Set.of(), index.find("95352563", PhoneIndex.Match.EXACT));
+        assertEquals(Set.of(), index.find("", PhoneIndex.Match.PREFIX));
+
+        index.add(DANIEL);
+        index.clear();
+        assertEquals(Set.of(), index.find("8", PhoneIndex.Match.PREFIX));
+    }
+}
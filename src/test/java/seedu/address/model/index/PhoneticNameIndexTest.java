@@ -0,0 +1,44 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneticNameIndexTest {
+
+    private final PhoneticNameIndex index = new PhoneticNameIndex();
+
+    @Test
+    public void find_soundAlikeKeywords_personsFound() {
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(ELLE);
+
+        assertEquals(Set.of(BENSON, ELLE), index.find(List.of("Mayer")));
+        assertEquals(Set.of(BENSON, CARL, ELLE), index.find(List.of("meyer", "karl")));
+        assertEquals(Set.of(), index.find(List.of("Kunz", "42")));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person sameSoundingWords = new PersonBuilder().withName("Jon John").build();
+        index.add(sameSoundingWords);
+        index.add(BENSON);
+
+        index.remove(sameSoundingWords);
+        assertEquals(Set.of(), index.find(List.of("Jonn")));
+        assertEquals(Set.of(BENSON), index.find(List.of("Meier")));
+
+        index.clear();
+        assertEquals(Set.of(), index.find(List.of("Meier")));
+    }
+}
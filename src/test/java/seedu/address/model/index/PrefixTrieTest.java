@@ -0,0 +1,96 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void add_nullTerm_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_byCountThenAlphabetical() {
+        trie.add("friends");
+        trie.add("family");
+        trie.add("friends");
+        trie.add("frenemies");
+        trie.add("colleagues");
+
+        assertEquals(List.of("friends", "frenemies"), trie.complete("fr", 5));
+        assertEquals(List.of("friends", "family", "frenemies"), trie.complete("f", 5));
+        assertEquals(List.of("friends", "colleagues"), trie.complete("", 2));
+        assertEquals(List.of(), trie.complete("x", 5));
+        assertEquals(List.of(), trie.complete("f", 0));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    public void complete_caseInsensitive_lastAddedCaseReturned() {
+        trie.add("alex");
+        trie.add("Alex");
+        assertEquals(List.of("Alex"), trie.complete("AL", 5));
+        assertEquals(2, trie.getCount("ALEX"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void complete_prefixIsTerm_termIncluded() {
+        trie.add("al");
+        trie.add("alex");
+        trie.add("alex");
+        assertEquals(List.of("alex", "al"), trie.complete("al", 5));
+    }
+
+    @Test
+    public void remove_countsDecremented() {
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("family");
+        trie.add("family");
+        trie.add("fun");
+
+        trie.remove("friends");
+        assertEquals(List.of("family", "friends", "fun"), trie.complete("f", 5));
+
+        trie.remove("friends");
+        trie.remove("family");
+        trie.remove("family");
+        assertEquals(List.of("fun"), trie.complete("f", 5));
+        assertEquals(0, trie.getCount("friends"));
+        assertEquals(1, trie.size());
+
+        // removing absent terms does nothing
+        trie.remove("friends");
+        trie.remove("f");
+        trie.remove("funny");
+        assertEquals(1, trie.getCount("fun"));
+    }
+
+    @Test
+    public void clear_allTermsRemoved() {
+        trie.add("friends");
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.complete("", 5));
+    }
+
+    @Test
+    public void complete_manyTerms_topCompletionsFound() {
+        for (int i = 0; i < 10_000; i++) {
+            trie.add("name" + i);
+        }
+        trie.add("name42");
+        trie.add("name42");
+        trie.add("name7");
+        assertEquals(List.of("name42", "name7", "name0"), trie.complete("name", 3));
+        assertEquals(List.of("name42", "name4", "name40"), trie.complete("name4", 3));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortKeyIndexTest {
+
+    private final SortKeyIndex index = new SortKeyIndex();
+
+    @Test
+    public void getComparator_name_ignoresCase() {
+        Person adam = new PersonBuilder().withName("adam").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        index.setField(Optional.of(SortKeyIndex.Field.NAME));
+        index.add(bob);
+
+        assertTrue(index.getComparator().compare(adam, bob) < 0);
+        assertTrue(index.getComparator().compare(bob, adam) > 0);
+    }
+
+    @Test
+    public void getComparator_address_collatedForLocale() {
+        // an accented capital sorts with its letter, not after every unaccented one as in String#compareTo
+        Person first = new PersonBuilder().withAddress("\u00c9mile Street").build();
+        Person second = new PersonBuilder().withAddress("evans Street").build();
+        Person third = new PersonBuilder().withAddress("Zoe Street").build();
+        index.setField(Optional.of(SortKeyIndex.Field.ADDRESS));
+
+        List<Person> persons = new ArrayList<>(List.of(third, second, first));
+        persons.sort(index.getComparator());
+        assertEquals(List.of(first, second, third), persons);
+    }
+
+    @Test
+    public void setField_changedField_keysRemade() {
+        Person first = new PersonBuilder().withName("Amy").withPhone("99999999").build();
+        Person second = new PersonBuilder().withName("Zack").withPhone("11111111").build();
+        index.setField(Optional.of(SortKeyIndex.Field.NAME));
+        index.add(first);
+        index.add(second);
+        assertTrue(index.getComparator().compare(first, second) < 0);
+
+        index.setField(Optional.of(SortKeyIndex.Field.PHONE));
+        assertEquals(Optional.of(SortKeyIndex.Field.PHONE), index.getField());
+        assertTrue(index.getComparator().compare(first, second) > 0);
+    }
+}
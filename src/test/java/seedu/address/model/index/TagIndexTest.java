@@ -0,0 +1,94 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void find_taggedPersons_foundAndCounted() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        assertEquals(Set.of(ALICE, BENSON), index.find(FRIENDS));
+        assertEquals(Set.of(BENSON), index.find(OWES_MONEY));
+        assertEquals(2, index.count(FRIENDS));
+        assertEquals(0, index.count(new Tag("colleagues")));
+        assertEquals(Set.of(), index.find(new Tag("colleagues")));
+    }
+
+    @Test
+    public void findAny_severalTags_personsWithAnyTagFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.findAny(Set.of(OWES_MONEY, FRIENDS)));
+        assertEquals(Set.of(BENSON), index.findAny(Set.of(OWES_MONEY, new Tag("colleagues"))));
+        assertEquals(Set.of(), index.findAny(Set.of()));
+    }
+
+    @Test
+    public void getSlots_combinedWithBitmapOperations_matchingPersonsFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        CompressedBitmap friendsNotOwing = index.getSlots(FRIENDS).andNot(index.getSlots(OWES_MONEY));
+        assertEquals(Set.of(ALICE), index.toPersons(friendsNotOwing));
+        CompressedBitmap untagged = index.getAllSlots().andNot(index.getSlots(FRIENDS).or(index.getSlots(OWES_MONEY)));
+        assertEquals(Set.of(CARL), index.toPersons(untagged));
+    }
+
+    @Test
+    public void remove_person_slotReusedByNextPerson() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertEquals(Set.of(BENSON), index.find(FRIENDS));
+
+        index.add(DANIEL);
+        assertEquals(Set.of(BENSON, DANIEL), index.find(FRIENDS));
+        assertEquals(2, index.getAllSlots().getCardinality());
+
+        index.clear();
+        assertEquals(0, index.count(FRIENDS));
+        assertEquals(Set.of(), index.toPersons(index.getAllSlots()));
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_tagDroppedAndIdReused() {
+        index.add(ALICE);
+        index.add(BENSON);
+        assertEquals(2, index.getTagCount());
+
+        index.remove(BENSON);
+        assertEquals(1, index.getTagCount());
+        assertEquals(0, index.count(OWES_MONEY));
+
+        Person colleague = new PersonBuilder().withName("Colleague").withTags("colleagues").build();
+        index.add(colleague);
+        assertEquals(2, index.getTagCount());
+        assertEquals(Set.of(colleague), index.find(new Tag("colleagues")));
+        assertEquals(Set.of(ALICE), index.find(FRIENDS));
+        assertEquals(Set.of(), index.find(OWES_MONEY));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestUtil;
 
 public class NameContainsKeywordsPredicateTest {
 
@@ -72,4 +73,11 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void test_repeatedCalls_nothingAllocated() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol", "Bob"));
+        Person person = new PersonBuilder().withName("Alice Bob").build();
+        assertTrue(TestUtil.getAllocatedBytes(() -> predicate.test(person), 100_000) < 100_000);
+    }
 }
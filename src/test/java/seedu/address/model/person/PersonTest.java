@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -11,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -88,4 +91,17 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void hashCode_equalPersons_sameHash() {
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+    }
+
+    @Test
+    public void getNameWords_mixedCaseName_lowerCaseWordsInOrder() {
+        assertEquals(List.of("alice", "pauline"), ALICE.getNameWords());
+        assertEquals(List.of("bob", "choo"), new PersonBuilder().withName("BOB   Choo").build().getNameWords());
+        assertThrows(UnsupportedOperationException.class, () -> ALICE.getNameWords().add("x"));
+    }
 }
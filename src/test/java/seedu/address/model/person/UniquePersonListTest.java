@@ -7,14 +7,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -127,6 +131,44 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneChange() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c ->
+                changeCount[0]++);
+        uniquePersonList.removeAll(List.of(CARL, ALICE));
+        assertEquals(List.of(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void setPersons_nullMap_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((Map<Person, Person>) null));
+    }
+
+    @Test
+    public void setPersons_targetPersonNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(Map.of(BOB, editedBob)));
+    }
+
+    @Test
+    public void setPersons_map_replacesPersonsInPlace() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPersons(Map.of(ALICE, editedAlice, CARL, editedCarl));
+        assertEquals(List.of(editedAlice, BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -0,0 +1,56 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TestUtil;
+
+public class FieldQueryTest {
+
+    @Test
+    public void constructor_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(FieldQuery.Field.PHONE, "*123*"));
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(FieldQuery.Field.NAME, "al!ce"));
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(FieldQuery.Field.ADDRESS, " "));
+    }
+
+    @Test
+    public void test_eachField_matchedAsDocumented() {
+        // name contains all words, ignoring case
+        assertTrue(new FieldQuery(FieldQuery.Field.NAME, "PAULINE alice").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.NAME, "alice meier").test(ALICE));
+
+        // phone is, starts with or ends with the digits
+        assertTrue(new FieldQuery(FieldQuery.Field.PHONE, "94351253").test(ALICE));
+        assertTrue(new FieldQuery(FieldQuery.Field.PHONE, "9435*").test(ALICE));
+        assertTrue(new FieldQuery(FieldQuery.Field.PHONE, "*1253").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.PHONE, "9435").test(ALICE));
+
+        // email and address contain the value, ignoring case
+        assertTrue(new FieldQuery(FieldQuery.Field.EMAIL, "@EXAMPLE").test(ALICE));
+        assertTrue(new FieldQuery(FieldQuery.Field.ADDRESS, "clementi ave").test(BENSON));
+        assertFalse(new FieldQuery(FieldQuery.Field.ADDRESS, "clementi ave").test(ALICE));
+
+        // tag is present
+        assertTrue(new FieldQuery(FieldQuery.Field.TAG, "owesMoney").test(BENSON));
+        assertFalse(new FieldQuery(FieldQuery.Field.TAG, "owesMoney").test(ALICE));
+    }
+
+    @Test
+    public void test_repeatedCalls_nothingAllocated() {
+        FieldQuery tagQuery = new FieldQuery(FieldQuery.Field.TAG, "owesMoney");
+        FieldQuery phoneQuery = new FieldQuery(FieldQuery.Field.PHONE, "9435*");
+        FieldQuery emailQuery = new FieldQuery(FieldQuery.Field.EMAIL, "@EXAMPLE");
+        Runnable testAll = () -> {
+            tagQuery.test(BENSON);
+            phoneQuery.test(ALICE);
+            emailQuery.test(ALICE);
+        };
+        assertTrue(TestUtil.getAllocatedBytes(testAll, 100_000) < 100_000);
+    }
+}
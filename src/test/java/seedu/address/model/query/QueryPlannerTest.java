@@ -0,0 +1,115 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.NameWordIndex;
+import seedu.address.model.index.PhoneIndex;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Person;
+
+public class QueryPlannerTest {
+
+    private static final Query NAME_MEIER = new FieldQuery(FieldQuery.Field.NAME, "meier");
+    private static final Query TAG_FRIENDS = new FieldQuery(FieldQuery.Field.TAG, "friends");
+    private static final Query TAG_OWES_MONEY = new FieldQuery(FieldQuery.Field.TAG, "owesMoney");
+    private static final Query PHONE_PREFIX = new FieldQuery(FieldQuery.Field.PHONE, "9*");
+    private static final Query ADDRESS_STREET = new FieldQuery(FieldQuery.Field.ADDRESS, "street");
+
+    private final List<Person> persons = getTypicalPersons();
+    private final QueryPlanner planner = createPlanner();
+
+    @Test
+    public void plan_and_startsFromMostSelectiveIndex() {
+        Query query = new AndQuery(List.of(TAG_FRIENDS, NAME_MEIER, TAG_OWES_MONEY));
+        assertEquals("Intersect (est. 1)\n"
+                + "  Index lookup (t/friends and t/owesMoney) (est. 1)\n"
+                + "  Index lookup n/meier (est. 2)", planner.plan(query).explain());
+        assertPlanFinds(query, Set.of(BENSON));
+    }
+
+    @Test
+    public void plan_andWithUnindexedConditions_filtersCandidates() {
+        Query query = new AndQuery(List.of(ADDRESS_STREET, TAG_FRIENDS, new NotQuery(NAME_MEIER)));
+        assertEquals("Filter (a/street and not n/meier) (est. 0)\n"
+                + "  Index lookup t/friends (est. 3)", planner.plan(query).explain());
+        assertPlanFinds(query, Set.of());
+
+        Query addressOnly = new AndQuery(List.of(ADDRESS_STREET, new NotQuery(TAG_FRIENDS)));
+        assertEquals("Filter a/street (est. 1)\n"
+                + "  Index lookup not t/friends (est. 4)", planner.plan(addressOnly).explain());
+        assertPlanFinds(addressOnly, persons.stream().filter(addressOnly).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void plan_or_unionOnlyIfAllIndexed() {
+        Query indexed = new OrQuery(List.of(TAG_OWES_MONEY, NAME_MEIER));
+        assertEquals("Union (est. 3)\n"
+                + "  Index lookup t/owesMoney (est. 1)\n"
+                + "  Index lookup n/meier (est. 2)", planner.plan(indexed).explain());
+        assertPlanFinds(indexed, Set.of(BENSON, DANIEL));
+
+        Query partlyIndexed = new OrQuery(List.of(TAG_OWES_MONEY, ADDRESS_STREET));
+        assertEquals("Scan all 7 persons for (t/owesMoney or a/street) (est. 2)",
+                planner.plan(partlyIndexed).explain());
+        assertPlanFinds(partlyIndexed, persons.stream().filter(partlyIndexed).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void plan_tagCombination_answeredByBitmapsWithExactEstimate() {
+        Query query = new OrQuery(List.of(new AndQuery(List.of(TAG_FRIENDS, new NotQuery(TAG_OWES_MONEY))),
+                new FieldQuery(FieldQuery.Field.TAG, "colleagues")));
+        assertEquals("Index lookup ((t/friends and not t/owesMoney) or t/colleagues) (est. 2)",
+                planner.plan(query).explain());
+        assertPlanFinds(query, Set.of(ALICE, DANIEL));
+
+        Query negation = new NotQuery(TAG_FRIENDS);
+        assertEquals(4, planner.plan(negation).getEstimatedSize());
+        assertPlanFinds(negation, persons.stream().filter(negation).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void plan_orWithTagConditions_groupsTagConditions() {
+        Query query = new OrQuery(List.of(TAG_OWES_MONEY, NAME_MEIER, TAG_FRIENDS));
+        assertEquals("Union (est. 5)\n"
+                + "  Index lookup (t/owesMoney or t/friends) (est. 3)\n"
+                + "  Index lookup n/meier (est. 2)", planner.plan(query).explain());
+        assertPlanFinds(query, Set.of(ALICE, BENSON, DANIEL));
+    }
+
+    @Test
+    public void plan_phonePrefix_countedFromIndex() {
+        assertEquals("Index lookup p/9* (est. 6)", planner.plan(PHONE_PREFIX).explain());
+        assertEquals(6, planner.plan(PHONE_PREFIX).getEstimatedSize());
+
+        Query query = new AndQuery(List.of(PHONE_PREFIX, TAG_FRIENDS));
+        assertPlanFinds(query, Set.of(ALICE, BENSON));
+    }
+
+    private void assertPlanFinds(Query query, Set<Person> expected) {
+        assertEquals(expected, planner.plan(query).execute());
+        assertEquals(new HashSet<>(expected), persons.stream().filter(query).collect(Collectors.toSet()));
+    }
+
+    private QueryPlanner createPlanner() {
+        NameWordIndex nameWordIndex = new NameWordIndex();
+        PhoneIndex phoneIndex = new PhoneIndex();
+        TagIndex tagIndex = new TagIndex();
+        for (Person person : persons) {
+            nameWordIndex.add(person);
+            phoneIndex.add(person);
+            tagIndex.add(person);
+        }
+        return new QueryPlanner(persons, nameWordIndex, phoneIndex, tagIndex);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TestUtil;
+
+public class TagSetTest {
+
+    @Test
+    public void of_unsortedWithDuplicates_sortedWithoutDuplicates() {
+        TagSet tags = TagSet.of(List.of(new Tag("owesMoney"), new Tag("friends"), new Tag("owesMoney")));
+        assertEquals(List.of(new Tag("friends"), new Tag("owesMoney")), new ArrayList<>(tags));
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("colleagues")));
+        assertFalse(tags.contains("friends"));
+    }
+
+    @Test
+    public void of_equalTags_sharedInstances() {
+        Tag friends = TagSet.of(Set.of(new Tag("friends"))).iterator().next();
+        assertSame(friends, TagSet.of(List.of(new Tag("friends"))).iterator().next());
+        assertSame(friends, Tag.of("friends"));
+    }
+
+    @Test
+    public void equals_hashSetWithSameTags_equal() {
+        Set<Tag> hashSet = new HashSet<>(List.of(new Tag("friends"), new Tag("owesMoney")));
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(Set.of(), TagSet.of(List.of()));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+
+    @Test
+    public void of_manyPersonsWithSameTags_smallerThanHashSets() {
+        int personCount = 100_000;
+        long hashSetBytes = TestUtil.getRetainedBytes(() -> createTagsOfPersons(personCount, HashSet::new));
+        long tagSetBytes = TestUtil.getRetainedBytes(() -> createTagsOfPersons(personCount, TagSet::of));
+
+        // a hash set of new tags takes about 300 bytes per person, and a tag set of shared tags about 40
+        assertTrue(tagSetBytes * 3 < hashSetBytes, "Tag sets take " + tagSetBytes / personCount
+                + " bytes per person, hash sets " + hashSetBytes / personCount);
+    }
+
+    /**
+     * Returns the tags of {@code personCount} persons with two of a hundred tags each, read as new {@code Tag}s as
+     * the storage and the parser do.
+     */
+    private static List<Set<Tag>> createTagsOfPersons(int personCount, Function<List<Tag>, Set<Tag>> toSet) {
+        List<Set<Tag>> tagsOfPersons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            tagsOfPersons.add(toSet.apply(List.of(new Tag("friends"), new Tag("group" + i % 100))));
+        }
+        return tagsOfPersons;
+    }
+}
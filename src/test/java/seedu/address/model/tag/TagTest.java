@@ -1,9 +1,13 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.TestUtil;
+
 public class TagTest {
 
     @Test
@@ -23,4 +27,21 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_sameName_sharedInstance() {
+        Tag tag = Tag.of("interned");
+        assertSame(tag, Tag.of("interned"));
+        assertSame(tag, Tag.intern(new Tag("interned")));
+
+        Tag unseen = new Tag("internedFirst");
+        assertSame(unseen, Tag.intern(unseen));
+        assertSame(unseen, Tag.of("internedFirst"));
+    }
+
+    @Test
+    public void intern_sharedTag_nothingAllocated() {
+        Tag.of("interned");
+        Tag copy = new Tag("interned");
+        assertTrue(TestUtil.getAllocatedBytes(() -> Tag.intern(copy), 100_000) < 100_000);
+    }
 }
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.ab3");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // overwrite while the address book read from the old file is still in use
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(ALICE, readBack.getPersonList().get(0));
+    }
+
+    @Test
+    public void readAddressBookInChunks_typicalAddressBook_allPersonsInChunks() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.ab3"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        List<List<Person>> chunks = new ArrayList<>();
+        assertTrue(storage.readAddressBookInChunks(3, chunks::add));
+        assertEquals(List.of(3, 3, 1), chunks.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(ALICE, chunks.get(0).get(0));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadInChunks_fileReplaced() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.ab3"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.readAddressBookInChunks(3, chunk -> {});
+
+        // the chunks were read without holding the file, so it can be replaced on every platform
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<Person> persons = new ArrayList<>();
+        storage.readAddressBookInChunks(3, persons::addAll);
+        assertEquals(original.getPersonList(), persons);
+    }
+
+    @Test
+    public void read_missingFileWithJsonDataFile_importsJsonDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.ab3");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+
+        List<Person> persons = new ArrayList<>();
+        assertTrue(storage.readAddressBookInChunks(3, persons::addAll));
+        assertEquals(getTypicalAddressBook().getPersonList(), persons);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // once saved, the binary file is read instead
+        AddressBook imported = new AddressBook(storage.readAddressBook().get());
+        imported.addPerson(HOON);
+        storage.saveAddressBook(imported);
+        assertTrue(Files.exists(filePath));
+        assertEquals(imported, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("missing.ab3"));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(storage.readAddressBookInChunks(3, chunk -> {}));
+    }
+
+    @Test
+    public void read_invalidHeader_throwsDataConversionException() throws IOException {
+        Path filePath = testFolder.resolve("addressBook.ab3");
+        Files.writeString(filePath, "{\"persons\": []}");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        // a file cut short no longer ends where its header says
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_damagedRecord_throwsOnRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.ab3");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        int firstRecord = BinaryAddressBook.HEADER_SIZE + 4 * (getTypicalAddressBook().getPersonList().size() + 1);
+        bytes[firstRecord + 4] = '!'; // first letter of the first name
+        Files.write(filePath, bytes);
+
+        BinaryAddressBook addressBook = BinaryAddressBook.read(filePath);
+        assertThrows(IllegalArgumentException.class, () -> addressBook.getPerson(0));
+        assertEquals(getTypicalAddressBook().getPersonList().get(1), addressBook.getPerson(1));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBookInChunks(3, chunk -> {}));
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonDataFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.ab3"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.ab3"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+}
@@ -2,8 +2,15 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -11,6 +18,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +27,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +96,37 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBookInChunks_validFile_chunksInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        List<List<Person>> chunks = new ArrayList<>();
+        assertTrue(jsonAddressBookStorage.readAddressBookInChunks(3, chunks::add));
+        assertEquals(List.of(List.of(ALICE, BENSON, CARL), List.of(DANIEL, ELLE, FIONA), List.of(GEORGE)), chunks);
+    }
+
+    @Test
+    public void readAddressBookInChunks_missingFile_returnsFalse() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBookInChunks(3, chunk -> {
+                    throw new AssertionError("no chunk expected");
+                }));
+    }
+
+    @Test
+    public void readAddressBookInChunks_invalidFile_throwDataConversionException() {
+        Path serializableTestFolder = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(
+                serializableTestFolder.resolve("duplicatePersonAddressBook.json")).readAddressBookInChunks(1, c -> {}));
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json")).readAddressBookInChunks(1, c -> {}));
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")).readAddressBookInChunks(1, c -> {}));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,9 +1,16 @@
 package seedu.address.testutil;
 
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.lang.ref.Reference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.Supplier;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
@@ -19,6 +26,12 @@ public class TestUtil {
      */
     private static final Path SANDBOX_FOLDER = Paths.get("src", "test", "data", "sandbox");
 
+    /** More runs than the JIT compiler needs to fully optimise a method. */
+    private static final int ALLOCATION_WARM_UP_RUNS = 50_000;
+
+    /** Garbage collections run before reading the used heap, as one may not collect everything. */
+    private static final int HEAP_MEASUREMENT_GC_RUNS = 5;
+
     /**
      * Appends {@code fileName} to the sandbox folder path and returns the resulting path.
      * Creates the sandbox folder if it doesn't exist.
@@ -52,4 +65,53 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Runs {@code action} {@code times} times on the current thread and returns the number of bytes it allocated
+     * on the heap in total. The calling test is skipped if the JVM cannot count the bytes allocated by a thread.
+     * <p>
+     * {@code action} is first run often enough for the JIT compiler to have optimised it, so that neither one-off
+     * allocations such as class loading nor those the optimised code avoids are counted.
+     */
+    public static long getAllocatedBytes(Runnable action, int times) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean,
+                "Counting allocated bytes is not supported by this JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "Counting allocated bytes is not enabled in this JVM");
+
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < ALLOCATION_WARM_UP_RUNS; i++) {
+            action.run();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < times; i++) {
+            action.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Returns the number of bytes of heap still used by the object that {@code build} returns, measured as the
+     * difference in used heap after garbage collection. The result is only accurate to a few hundred kilobytes, so
+     * {@code build} should retain far more than that.
+     */
+    public static long getRetainedBytes(Supplier<?> build) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = getUsedHeapAfterGc(memory);
+        Object built = build.get();
+        long after = getUsedHeapAfterGc(memory);
+        Reference.reachabilityFence(built);
+        return after - before;
+    }
+
+    private static long getUsedHeapAfterGc(MemoryMXBean memory) {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < HEAP_MEASUREMENT_GC_RUNS; i++) {
+            memory.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
 }